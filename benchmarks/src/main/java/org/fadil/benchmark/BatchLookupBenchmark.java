@@ -0,0 +1,102 @@
+package org.fadil.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.fadil.BatchLookup;
+import org.fadil.OxfordClient;
+import org.fadil.OxfordSpeechlet;
+import org.fadil.OxfordSpeechletRequestStreamHandler;
+import org.fadil.StubOxfordServer;
+import org.fadil.WordCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares three words asked for in a single BatchOxfordIntent, looked up concurrently by the
+ * {@link BatchLookup}, with the same words asked for in three one-shot requests. The cache is disabled and the
+ * {@link StubOxfordServer} adds a latency to every answer, so every word costs a call of that latency.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchLookupBenchmark {
+
+	private static final String SESSION_ID = "amzn1.echo-api.session.benchmark";
+	private static final String[] WORDS = { "serendipity", "run", "set" };
+
+	/** The latency of every answer of the Oxford service, in milliseconds. */
+	@Param({ "50" })
+	public long latency;
+
+	private StubOxfordServer server;
+	private OxfordSpeechletRequestStreamHandler handler;
+	private byte[] batchRequest;
+	private byte[][] oneshotRequests;
+
+	@Setup
+	public void setUp() throws IOException {
+		server = new StubOxfordServer(Fixtures.responses(), latency);
+		OxfordClient client = new OxfordClient(server.getEndpoint(), "APP_ID", "APP_KEY", 1000, 2000, 4000, 0, 0, 20);
+		System.setProperty("OXFORD_PREFETCH", "false");
+		try {
+			handler = new OxfordSpeechletRequestStreamHandler(new OxfordSpeechlet(client, new WordCache(0, 0, 0, 0), null),
+					Collections.singleton(RequestEnvelopes.APPLICATION_ID));
+		} finally {
+			System.clearProperty("OXFORD_PREFETCH");
+		}
+
+		batchRequest = RequestEnvelopes.batch(SESSION_ID, WORDS);
+		oneshotRequests = new byte[WORDS.length][];
+		for (int i = 0; i < WORDS.length; i++) {
+			oneshotRequests[i] = RequestEnvelopes.oneshot(SESSION_ID, WORDS[i]);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		server.close();
+	}
+
+	@Benchmark
+	public byte[] batch() throws IOException {
+		return handle(batchRequest);
+	}
+
+	@Benchmark
+	public byte[] serialOneshots() throws IOException {
+		byte[] response = null;
+		for (byte[] request : oneshotRequests) {
+			response = handle(request);
+		}
+		return response;
+	}
+
+	private byte[] handle(byte[] request) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+		handler.handleRequest(new ByteArrayInputStream(request), output, null);
+		return output.toByteArray();
+	}
+
+}
@@ -0,0 +1,118 @@
+package org.fadil.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.fadil.DictionarySnapshot;
+import org.fadil.DictionarySnapshotWriter;
+import org.fadil.WordDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the lookups in a memory-mapped {@link DictionarySnapshot} with the lookups in an on-heap
+ * {@link HashMap} holding the same {@link WordDetails}, for a hit and for a miss.
+ *
+ * The heap retained by each structure and the size of the snapshot file are printed during the setup.
+ * Run with "-prof gc" to compare the allocation per lookup.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionarySnapshotBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private Path file;
+	private DictionarySnapshot snapshot;
+	private Map<String, WordDetails> hashMap;
+	private String[] keys;
+	private int next;
+
+	@Setup
+	public void setUp() throws IOException {
+		Map<String, WordDetails> words = SyntheticDictionary.generate(size);
+		keys = words.keySet().toArray(new String[0]);
+		file = Files.createTempFile("dictionary", ".snap");
+		DictionarySnapshotWriter.write(words, file);
+		words = null;
+
+		long before = usedHeap();
+		hashMap = new HashMap<>(SyntheticDictionary.generate(size));
+		long hashMapHeap = usedHeap() - before;
+
+		before = usedHeap();
+		snapshot = DictionarySnapshot.open(file);
+		long snapshotHeap = usedHeap() - before;
+
+		System.out.printf("%n%d words: HashMap %d KB of heap, snapshot %d KB of heap and %d KB of file%n",
+				size, hashMapHeap / 1024, snapshotHeap / 1024, Files.size(file) / 1024);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public WordDetails snapshotHit() {
+		return snapshot.get(nextKey());
+	}
+
+	@Benchmark
+	public WordDetails snapshotMiss() {
+		return snapshot.get(nextKey() + "x");
+	}
+
+	@Benchmark
+	public boolean snapshotContains() {
+		return snapshot.contains(nextKey());
+	}
+
+	@Benchmark
+	public WordDetails hashMapHit() {
+		return hashMap.get(nextKey());
+	}
+
+	@Benchmark
+	public WordDetails hashMapMiss() {
+		return hashMap.get(nextKey() + "x");
+	}
+
+	private String nextKey() {
+		next = (next + 7919) % keys.length;
+		return keys[next];
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
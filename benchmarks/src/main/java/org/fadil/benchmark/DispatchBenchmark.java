@@ -0,0 +1,111 @@
+package org.fadil.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.fadil.FixtureDictionaryProvider;
+import org.fadil.OxfordSpeechlet;
+import org.fadil.OxfordSpeechletRequestStreamHandler;
+import org.fadil.WordCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazon.speech.speechlet.SpeechletV2;
+import com.amazon.speech.speechlet.lambda.SpeechletRequestStreamHandler;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+
+/**
+ * Measures the overhead of a request outside the business logic: reading the envelope, checking the
+ * application id, dispatching to the speechlet and writing the response envelope. The requests are answered
+ * with constant responses (welcome, exit, session end), so no word is looked up.
+ *
+ * "sdk" is the SpeechletRequestStreamHandler of the SDK, "oxford" the {@link OxfordSpeechletRequestStreamHandler}.
+ * Run with "-prof gc" to compare the allocation rate per request.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+	private static final String SESSION_ID = "amzn1.echo-api.session.benchmark";
+
+	@Param({ "sdk", "oxford" })
+	public String handler;
+
+	private RequestStreamHandler requestHandler;
+	private byte[] launchRequest;
+	private byte[] noRequest;
+	private byte[] sessionEndedRequest;
+
+	@Setup
+	public void setUp() {
+		LogManager.resetConfiguration();
+		LogManager.getRootLogger().setLevel(Level.OFF);
+
+		OxfordSpeechlet speechlet = new OxfordSpeechlet(new FixtureDictionaryProvider(Fixtures.responses(), 0),
+				new WordCache(), null);
+		Set<String> applicationIds = Collections.singleton(RequestEnvelopes.APPLICATION_ID);
+		requestHandler = "sdk".equals(handler)
+				? new SdkHandler(speechlet, applicationIds)
+				: new OxfordSpeechletRequestStreamHandler(speechlet, applicationIds);
+
+		launchRequest = RequestEnvelopes.launch(SESSION_ID);
+		noRequest = RequestEnvelopes.no(SESSION_ID);
+		sessionEndedRequest = RequestEnvelopes.sessionEnded(SESSION_ID);
+	}
+
+	@Benchmark
+	public byte[] launch() throws IOException {
+		return handle(launchRequest);
+	}
+
+	@Benchmark
+	public byte[] no() throws IOException {
+		return handle(noRequest);
+	}
+
+	@Benchmark
+	public byte[] sessionEnded() throws IOException {
+		return handle(sessionEndedRequest);
+	}
+
+	private byte[] handle(byte[] request) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+		requestHandler.handleRequest(new ByteArrayInputStream(request), output, null);
+		return output.toByteArray();
+	}
+
+	/**
+	 * The handler of the SDK, as the skill used it before.
+	 */
+	private static final class SdkHandler extends SpeechletRequestStreamHandler {
+
+		SdkHandler(SpeechletV2 speechlet, Set<String> supportedApplicationIds) {
+			super(speechlet, supportedApplicationIds);
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package org.fadil.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Loads the recorded responses of the Oxford service stored under "fixtures/" on the classpath.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class Fixtures {
+
+	/** The words for which a recorded response exists, from the smallest to the largest response. */
+	public static final String[] WORDS = { "serendipity", "ace", "run", "set" };
+
+	private Fixtures() {
+	}
+
+	/**
+	 * @return the recorded response bodies by word, to answer from a StubOxfordServer
+	 */
+	public static Map<String, byte[]> responses() {
+		Map<String, byte[]> responses = new HashMap<>();
+		for (String word : WORDS) {
+			responses.put(word, load(word));
+		}
+		return responses;
+	}
+
+	/**
+	 * @param word
+	 * @return the recorded response body for the word
+	 */
+	public static byte[] load(String word) {
+		try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + word + ".json")) {
+			if (in == null) {
+				throw new IllegalArgumentException("No recorded response for " + word);
+			}
+			return IOUtils.toByteArray(in);
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not load recorded response for " + word, e);
+		}
+	}
+
+}
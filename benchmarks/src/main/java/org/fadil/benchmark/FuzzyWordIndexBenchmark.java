@@ -0,0 +1,117 @@
+package org.fadil.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.fadil.FuzzyWordIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link FuzzyWordIndex} across dictionary sizes: the lookup of a known lemma, of a lemma with
+ * one wrong letter, of a lemma with two letters swapped, and of a word close to no lemma. The time to build
+ * the index is measured by {@link #build()}, and the heap retained by the index is printed during the setup.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzyWordIndexBenchmark {
+
+	private static final int QUERIES = 1024;
+
+	@Param({ "1000", "10000", "100000" })
+	public int size;
+
+	private List<String> lemmas;
+	private FuzzyWordIndex index;
+	private String[] exact = new String[QUERIES];
+	private String[] substituted = new String[QUERIES];
+	private String[] transposed = new String[QUERIES];
+	private String[] unknown = new String[QUERIES];
+	private int next;
+
+	@Setup
+	public void setUp() {
+		lemmas = SyntheticDictionary.lemmas(size);
+		Random random = new Random(42);
+		for (int i = 0; i < QUERIES; i++) {
+			String lemma = lemmas.get(random.nextInt(lemmas.size()));
+			int position = random.nextInt(lemma.length() - 1);
+			char[] chars = lemma.toCharArray();
+			exact[i] = lemma;
+			chars[position] = chars[position] == 'x' ? 'y' : 'x';
+			substituted[i] = new String(chars);
+			chars = lemma.toCharArray();
+			char swapped = chars[position];
+			chars[position] = chars[position + 1];
+			chars[position + 1] = swapped;
+			transposed[i] = new String(chars);
+			unknown[i] = "qx" + SyntheticDictionary.word(random, 6) + "qx";
+		}
+
+		long before = usedHeap();
+		index = FuzzyWordIndex.build(lemmas);
+		System.out.printf("%n%d lemmas: index retains %d KB of heap%n", size, (usedHeap() - before) / 1024);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 3)
+	@Measurement(iterations = 5)
+	public FuzzyWordIndex build() {
+		return FuzzyWordIndex.build(lemmas);
+	}
+
+	@Benchmark
+	public String exact() {
+		return index.resolve(exact[nextQuery()]);
+	}
+
+	@Benchmark
+	public String substitution() {
+		return index.resolve(substituted[nextQuery()]);
+	}
+
+	@Benchmark
+	public String transposition() {
+		return index.resolve(transposed[nextQuery()]);
+	}
+
+	@Benchmark
+	public String unknown() {
+		return index.resolve(unknown[nextQuery()]);
+	}
+
+	private int nextQuery() {
+		next = (next + 1) & (QUERIES - 1);
+		return next;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
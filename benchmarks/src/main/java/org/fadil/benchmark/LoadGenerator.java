@@ -0,0 +1,429 @@
+package org.fadil.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.fadil.LatencyHistogram;
+import org.fadil.WordDetails;
+
+/**
+ * Loads the skill with sessions arriving at a fixed rate and reports the latencies, to find how many requests
+ * per second a container sustains before its p99 breaks the SLA:
+ * <pre>
+ * java -cp target/benchmarks.jar org.fadil.benchmark.LoadGenerator --rates 50,100,200,400 --sla-p99-millis 500
+ * </pre>
+ * The load is open loop: sessions start at their planned time, exponentially spaced (Poisson arrivals), whether
+ * or not the skill keeps up, and the latency of every request is measured from the time it was planned to be
+ * sent rather than from the time a thread was free to send it, so that a stalled skill is not hidden by the
+ * requests which could not be sent meanwhile (coordinated omission). The service time, measured from the
+ * actual send, is reported next to it.
+ *
+ * Each session asks for words drawn from a Zipf distribution over a synthetic dictionary, with a share of
+ * unknown words, following the flows of {@link LoadSession}, or replays recorded request envelopes. The target
+ * is the handler in process, answering from a {@link org.fadil.FixtureDictionaryProvider} or through a
+ * {@link org.fadil.StubOxfordServer} with the given upstream latency, in a warm container or in containers
+ * replaced every "--container-requests" requests; or a skill endpoint given by its URL. Every rate is first
+ * run for "--warmup-seconds", which are not reported.
+ *
+ * Past the rate the skill sustains, the requests queue for the workers. The sessions still in flight are
+ * waited for up to "--drain-seconds" after the last one started; the requests still unanswered then are
+ * recorded at the time elapsed since they were planned and reported as unfinished, and dropped with their
+ * sessions so that they do not load the next rate.
+ *
+ * The latencies are recorded in a {@link LatencyHistogram}, which is precise within 12.5%.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class LoadGenerator {
+
+	private final LoadTarget target;
+	private final Supplier<LoadSession> sessions;
+	private final long thinkNanos;
+	private final ThreadPoolExecutor workers;
+	private final ScheduledExecutorService timer;
+	private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+	private final LatencyHistogram allLatencies = new LatencyHistogram();
+	private final LatencyHistogram serviceTimes = new LatencyHistogram();
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicInteger activeSessions = new AtomicInteger();
+	// the planned time of the request each session waits for; whoever removes it records the request
+	private final Map<LoadSession, Long> pending = new ConcurrentHashMap<>();
+	// bumped at the end of every rate, so that the sessions dropped then stop
+	private volatile int generation;
+
+	private LoadGenerator(LoadTarget target, Supplier<LoadSession> sessions, int threads, long thinkMillis) {
+		this.target = target;
+		this.sessions = sessions;
+		this.thinkNanos = TimeUnit.MILLISECONDS.toNanos(thinkMillis);
+		this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+				daemon("load-worker"));
+		this.timer = Executors.newSingleThreadScheduledExecutor(daemon("load-timer"));
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		String targetName = "inprocess";
+		String provider = "fixtures";
+		long upstreamLatencyMillis = 50;
+		long containerRequests = 0;
+		int words = 5000;
+		double zipfExponent = 1.0;
+		int unknownPercent = 5;
+		String replay = null;
+		List<Double> rates = new ArrayList<>();
+		long warmupSeconds = 10;
+		long durationSeconds = 30;
+		long drainSeconds = 30;
+		int threads = 64;
+		long thinkMillis = 1000;
+		long slaP99Millis = 1000;
+		boolean logging = false;
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			String value = args[i + 1];
+			switch (args[i]) {
+
+				case "--target":
+					targetName = value;
+					break;
+
+				case "--provider":
+					provider = value;
+					break;
+
+				case "--upstream-latency-millis":
+					upstreamLatencyMillis = Long.parseLong(value);
+					break;
+
+				case "--container-requests":
+					containerRequests = Long.parseLong(value);
+					break;
+
+				case "--words":
+					words = Integer.parseInt(value);
+					break;
+
+				case "--zipf":
+					zipfExponent = Double.parseDouble(value);
+					break;
+
+				case "--unknown-percent":
+					unknownPercent = Integer.parseInt(value);
+					break;
+
+				case "--replay":
+					replay = value;
+					break;
+
+				case "--rates":
+					for (String rate : value.split(",")) {
+						rates.add(Double.parseDouble(rate));
+					}
+					break;
+
+				case "--warmup-seconds":
+					warmupSeconds = Long.parseLong(value);
+					break;
+
+				case "--duration-seconds":
+					durationSeconds = Long.parseLong(value);
+					break;
+
+				case "--drain-seconds":
+					drainSeconds = Long.parseLong(value);
+					break;
+
+				case "--threads":
+					threads = Integer.parseInt(value);
+					break;
+
+				case "--think-millis":
+					thinkMillis = Long.parseLong(value);
+					break;
+
+				case "--sla-p99-millis":
+					slaP99Millis = Long.parseLong(value);
+					break;
+
+				case "--log":
+					logging = Boolean.parseBoolean(value);
+					break;
+
+				default:
+					usage("Unknown option " + args[i]);
+			}
+		}
+		if (args.length % 2 != 0) {
+			usage(null);
+		}
+		if (rates.isEmpty()) {
+			rates.add(50.0);
+		}
+		if (!logging) {
+			// the INFO line logged per request would be measured instead of the skill
+			LogManager.resetConfiguration();
+			LogManager.getRootLogger().setLevel(Level.OFF);
+		}
+
+		Map<String, WordDetails> dictionary = SyntheticDictionary.generate(words);
+		List<String> ranked = new ArrayList<>(dictionary.keySet());
+		ZipfSampler zipf = new ZipfSampler(ranked.size(), zipfExponent);
+		int unknown = unknownPercent;
+		Supplier<String> wordSupplier = () -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			return random.nextInt(100) < unknown ? SyntheticDictionary.word(random, 12) : ranked.get(zipf.next(random));
+		};
+		Supplier<LoadSession> sessions;
+		if (replay != null) {
+			byte[][] recorded = LoadSession.readReplay(Files.readAllLines(Paths.get(replay), StandardCharsets.UTF_8));
+			if (recorded.length == 0) {
+				usage("No request to replay in " + replay);
+			}
+			AtomicLong next = new AtomicLong();
+			sessions = () -> LoadSession.replay(recorded[(int) (next.getAndIncrement() % recorded.length)]);
+		} else {
+			sessions = () -> LoadSession.synthetic(wordSupplier);
+		}
+
+		try (LoadTarget target = "inprocess".equals(targetName)
+				? LoadTarget.InProcess.create(SyntheticDictionary.responses(dictionary), provider, upstreamLatencyMillis,
+						containerRequests)
+				: new LoadTarget.Http(targetName, threads)) {
+			LoadGenerator generator = new LoadGenerator(target, sessions, threads, thinkMillis);
+			System.out.printf("target=%s provider=%s upstreamLatencyMillis=%d containerRequests=%d words=%d zipf=%.2f"
+					+ " threads=%d thinkMillis=%d%n", targetName, provider, upstreamLatencyMillis, containerRequests,
+					words, zipfExponent, threads, thinkMillis);
+
+			double sustained = 0;
+			for (double rate : rates) {
+				Report report = generator.run(rate, warmupSeconds, durationSeconds, drainSeconds);
+				report.print(slaP99Millis);
+				if (report.getP99Millis() <= slaP99Millis && report.errors == 0 && report.unfinished == 0) {
+					sustained = Math.max(sustained, report.getRequestRate());
+				}
+			}
+			if (target instanceof LoadTarget.InProcess) {
+				System.out.printf("containers started: %d%n", ((LoadTarget.InProcess) target).getContainerCount());
+			}
+			System.out.printf("highest request rate meeting p99 <= %d ms without errors or unfinished requests: %.1f req/s%n", slaP99Millis, sustained);
+		}
+	}
+
+	/**
+	 * Starts sessions at the given rate for the warmup then the measured duration, waits for the sessions in
+	 * flight to end for up to the drain, then drops the ones left.
+	 */
+	private Report run(double sessionsPerSecond, long warmupSeconds, long durationSeconds, long drainSeconds)
+			throws InterruptedException {
+		int current = generation;
+		long meanGapNanos = (long) (TimeUnit.SECONDS.toNanos(1) / sessionsPerSecond);
+		long start = System.nanoTime();
+		long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+		long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+		Map<String, LatencyHistogram.Snapshot> before = null;
+		long errorsBefore = 0;
+		long measuredFrom = 0;
+		long planned = start;
+		while (planned < end) {
+			if (before == null && planned >= measureFrom) {
+				before = snapshots();
+				errorsBefore = errors.get();
+				measuredFrom = System.nanoTime();
+			}
+			for (long wait = planned - System.nanoTime(); wait > 0; wait = planned - System.nanoTime()) {
+				LockSupport.parkNanos(wait);
+			}
+			activeSessions.incrementAndGet();
+			submit(sessions.get(), planned, current);
+			// exponential gaps make Poisson arrivals
+			planned += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos);
+		}
+		if (before == null) {
+			before = snapshots();
+			errorsBefore = errors.get();
+			measuredFrom = System.nanoTime();
+		}
+		long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(drainSeconds);
+		while (activeSessions.get() > 0 && System.nanoTime() < drainDeadline) {
+			TimeUnit.MILLISECONDS.sleep(10);
+		}
+		long unfinished = dropSessions();
+
+		Map<String, LatencyHistogram.Snapshot> after = snapshots();
+		long measuredNanos = System.nanoTime() - measuredFrom;
+		Map<String, LatencyHistogram.Snapshot> interval = new TreeMap<>();
+		for (Map.Entry<String, LatencyHistogram.Snapshot> entry : after.entrySet()) {
+			LatencyHistogram.Snapshot previous = before.get(entry.getKey());
+			interval.put(entry.getKey(), previous != null ? entry.getValue().minus(previous) : entry.getValue());
+		}
+		return new Report(sessionsPerSecond, measuredNanos, interval, errors.get() - errorsBefore, unfinished);
+	}
+
+	/**
+	 * Sends the next request of a session on a worker thread. The latency runs from the planned time, so the
+	 * time spent waiting for a worker is included.
+	 */
+	private void submit(LoadSession session, long planned, int sessionGeneration) {
+		if (sessionGeneration != generation) {
+			return;
+		}
+		byte[] request = session.nextRequest();
+		if (request == null) {
+			activeSessions.decrementAndGet();
+			return;
+		}
+		pending.put(session, planned);
+		workers.execute(() -> {
+			long sent = System.nanoTime();
+			try {
+				byte[] response = target.send(request);
+				long received = System.nanoTime();
+				if (pending.remove(session) == null) {
+					// dropped at the end of the rate, and already recorded as unfinished
+					return;
+				}
+				record(session, received - planned);
+				serviceTimes.record(received - sent);
+				session.onResponse(response);
+			} catch (IOException | RuntimeException e) {
+				if (pending.remove(session) != null) {
+					errors.incrementAndGet();
+					activeSessions.decrementAndGet();
+				}
+				return;
+			}
+			long next = System.nanoTime() + thinkNanos;
+			timer.schedule(() -> submit(session, next, sessionGeneration), thinkNanos, TimeUnit.NANOSECONDS);
+		});
+	}
+
+	/**
+	 * Ends the sessions left at the end of a rate. Their requests not yet answered, either queued for a worker
+	 * or being sent, are recorded at the time elapsed since they were planned, and the queued ones are not
+	 * sent.
+	 * @return the number of requests left unanswered
+	 */
+	private long dropSessions() {
+		generation++;
+		workers.getQueue().clear();
+		long now = System.nanoTime();
+		long unfinished = 0;
+		for (LoadSession session : pending.keySet()) {
+			Long planned = pending.remove(session);
+			if (planned != null) {
+				record(session, now - planned);
+				unfinished++;
+			}
+		}
+		activeSessions.set(0);
+		return unfinished;
+	}
+
+	private void record(LoadSession session, long latencyNanos) {
+		allLatencies.record(latencyNanos);
+		latencies.computeIfAbsent(session.getRequestType(), type -> new LatencyHistogram()).record(latencyNanos);
+	}
+
+	private Map<String, LatencyHistogram.Snapshot> snapshots() {
+		Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+		for (Map.Entry<String, LatencyHistogram> entry : latencies.entrySet()) {
+			snapshots.put(entry.getKey(), entry.getValue().snapshot());
+		}
+		snapshots.put(Report.ALL, allLatencies.snapshot());
+		snapshots.put(Report.SERVICE, serviceTimes.snapshot());
+		return snapshots;
+	}
+
+	private static ThreadFactory daemon(String name) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static void usage(String error) {
+		if (error != null) {
+			System.err.println(error);
+		}
+		System.err.println("Usage: LoadGenerator [--target inprocess|URL] [--provider fixtures|stub] [--upstream-latency-millis N]"
+				+ " [--container-requests N] [--words N] [--zipf S] [--unknown-percent N] [--replay FILE]"
+				+ " [--rates R1,R2...] [--warmup-seconds N] [--duration-seconds N] [--drain-seconds N] [--threads N]"
+				+ " [--think-millis N]"
+				+ " [--sla-p99-millis N] [--log true|false]");
+		System.exit(2);
+	}
+
+	/**
+	 * The latencies of one rate, from the start of the measured duration to the end of the drain.
+	 */
+	private static final class Report {
+
+		static final String ALL = " all";
+		static final String SERVICE = " service time";
+
+		private final double sessionsPerSecond;
+		private final long measuredNanos;
+		private final Map<String, LatencyHistogram.Snapshot> latencies;
+		private final long errors;
+		private final long unfinished;
+
+		private Report(double sessionsPerSecond, long measuredNanos, Map<String, LatencyHistogram.Snapshot> latencies,
+				long errors, long unfinished) {
+			this.sessionsPerSecond = sessionsPerSecond;
+			this.measuredNanos = measuredNanos;
+			this.latencies = latencies;
+			this.errors = errors;
+			this.unfinished = unfinished;
+		}
+
+		/**
+		 * @return the requests answered per second of the measured interval, drain included
+		 */
+		double getRequestRate() {
+			return (latencies.get(ALL).getCount() - unfinished) * (double) TimeUnit.SECONDS.toNanos(1) / measuredNanos;
+		}
+
+		long getP99Millis() {
+			return TimeUnit.MICROSECONDS.toMillis(latencies.get(ALL).getValueAtPercentile(99));
+		}
+
+		void print(long slaP99Millis) {
+			System.out.printf("%n%.1f sessions/s: %.1f req/s, %d errors, %d unfinished, p99 %d ms %s%n",
+					sessionsPerSecond, getRequestRate(), errors, unfinished, getP99Millis(),
+					getP99Millis() <= slaP99Millis ? "within the SLA" : "BREAKS the SLA of " + slaP99Millis + " ms");
+			System.out.printf("%-22s %9s %9s %9s %9s %9s %9s%n", "request (ms)", "count", "p50", "p90", "p99", "p99.9", "max");
+			for (Map.Entry<String, LatencyHistogram.Snapshot> entry : latencies.entrySet()) {
+				LatencyHistogram.Snapshot snapshot = entry.getValue();
+				System.out.printf("%-22s %9d %9.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey().trim(), snapshot.getCount(),
+						snapshot.getValueAtPercentile(50) / 1000.0, snapshot.getValueAtPercentile(90) / 1000.0,
+						snapshot.getValueAtPercentile(99) / 1000.0, snapshot.getValueAtPercentile(99.9) / 1000.0,
+						snapshot.getMax() / 1000.0);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,164 @@
+package org.fadil.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The turns of one session sent by the {@link LoadGenerator}, each turn built from the response to the previous
+ * one, as the Alexa service does:
+ * <ul>
+ * <li>"oneshot": a OneshotOxfordIntent, followed by a MoreOxfordIntent for some of the words found,</li>
+ * <li>"dialog": a LaunchRequest, a DialogOxfordIntent, then AMAZON.YesIntent or AMAZON.NoIntent when the
+ * examples are offered,</li>
+ * <li>"batch": a BatchOxfordIntent of three words,</li>
+ * <li>"replay": a single recorded request envelope, with a new request id and timestamp.</li>
+ * </ul>
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+final class LoadSession {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final AtomicLong SESSION_COUNT = new AtomicLong();
+	private static final Pattern REQUEST_ID = Pattern.compile("\"requestId\"\\s*:\\s*\"[^\"]*\"");
+	private static final Pattern TIMESTAMP = Pattern.compile("\"timestamp\"\\s*:\\s*\"[^\"]*\"");
+
+	private static final int MORE_PERCENT = 20;
+	private static final int YES_PERCENT = 70;
+
+	private final String flow;
+	private final String sessionId = "amzn1.echo-api.session.load-" + SESSION_COUNT.incrementAndGet();
+	private final Supplier<String> words;
+	private final byte[] recorded;
+	private int turn;
+	private String word;
+	private JsonNode attributes;
+	private String requestType;
+
+	private LoadSession(String flow, Supplier<String> words, byte[] recorded) {
+		this.flow = flow;
+		this.words = words;
+		this.recorded = recorded;
+	}
+
+	/**
+	 * @param words draws the words asked for
+	 * @return a session following one of the synthetic flows, chosen at random: 65% oneshot, 25% dialog, 10% batch
+	 */
+	static LoadSession synthetic(Supplier<String> words) {
+		int draw = ThreadLocalRandom.current().nextInt(100);
+		return new LoadSession(draw < 65 ? "oneshot" : draw < 90 ? "dialog" : "batch", words, null);
+	}
+
+	/**
+	 * @param recorded a recorded request envelope
+	 * @return a session sending the recorded request only
+	 */
+	static LoadSession replay(byte[] recorded) {
+		return new LoadSession("replay", null, recorded);
+	}
+
+	/**
+	 * @param recordedRequests the recorded request envelopes, one per line
+	 * @return the non empty lines
+	 */
+	static byte[][] readReplay(List<String> recordedRequests) {
+		return recordedRequests.stream()
+				.filter(line -> !line.trim().isEmpty())
+				.map(line -> line.getBytes(StandardCharsets.UTF_8))
+				.toArray(byte[][]::new);
+	}
+
+	/**
+	 * @return the next request of the session, or null when the session is over
+	 */
+	byte[] nextRequest() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int current = turn++;
+		switch (flow) {
+
+			case "oneshot":
+				if (current == 0) {
+					word = words.get();
+					return request("OneshotOxfordIntent", RequestEnvelopes.oneshot(sessionId, word));
+				}
+				if (current == 1 && attributes != null && attributes.has("WORD") && random.nextInt(100) < MORE_PERCENT) {
+					return request("MoreOxfordIntent", RequestEnvelopes.more(sessionId, attributes.get("WORD").asText()));
+				}
+				return null;
+
+			case "dialog":
+				if (current == 0) {
+					return request("LaunchRequest", RequestEnvelopes.launch(sessionId));
+				}
+				if (current == 1) {
+					word = words.get();
+					return request("DialogOxfordIntent", RequestEnvelopes.dialog(sessionId, word));
+				}
+				if (current == 2 && attributes != null && attributes.has("EXAMPLES")) {
+					return random.nextInt(100) < YES_PERCENT
+							? request("AMAZON.YesIntent", RequestEnvelopes.yes(sessionId, attributes.toString()))
+							: request("AMAZON.NoIntent", RequestEnvelopes.no(sessionId));
+				}
+				return null;
+
+			case "batch":
+				return current == 0
+						? request("BatchOxfordIntent", RequestEnvelopes.batch(sessionId, words.get(), words.get(), words.get()))
+						: null;
+
+			default:
+				return current == 0 ? request("Replay", refresh(recorded)) : null;
+		}
+	}
+
+	/**
+	 * Keeps the session attributes of the response for the next turn.
+	 * @param response the serialized response envelope
+	 * @throws IOException if the response is not JSON
+	 */
+	void onResponse(byte[] response) throws IOException {
+		JsonNode sessionAttributes = MAPPER.readTree(response).get("sessionAttributes");
+		attributes = sessionAttributes != null && sessionAttributes.isObject() ? sessionAttributes : null;
+	}
+
+	/**
+	 * @return the type of the last request, under which its latency is reported
+	 */
+	String getRequestType() {
+		return requestType;
+	}
+
+	private byte[] request(String type, byte[] envelope) {
+		requestType = type;
+		return envelope;
+	}
+
+	/**
+	 * The handler rejects the requests older than 150 seconds, so the recorded timestamp is replaced by the
+	 * current one, and the request id by a new one.
+	 */
+	private static byte[] refresh(byte[] recorded) {
+		String json = new String(recorded, StandardCharsets.UTF_8);
+		json = REQUEST_ID.matcher(json).replaceFirst(Matcher.quoteReplacement(
+				"\"requestId\":\"amzn1.echo-api.request.load-" + Long.toHexString(System.nanoTime()) + "\""));
+		json = TIMESTAMP.matcher(json).replaceFirst(Matcher.quoteReplacement(
+				"\"timestamp\":\"" + Instant.now().truncatedTo(ChronoUnit.SECONDS) + "\""));
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
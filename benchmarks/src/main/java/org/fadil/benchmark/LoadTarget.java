@@ -0,0 +1,249 @@
+package org.fadil.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.fadil.DictionaryProvider;
+import org.fadil.FixtureDictionaryProvider;
+import org.fadil.OxfordClient;
+import org.fadil.OxfordSpeechlet;
+import org.fadil.OxfordSpeechletRequestStreamHandler;
+import org.fadil.StubOxfordServer;
+import org.fadil.WordCache;
+
+/**
+ * The skill under load: the {@link OxfordSpeechletRequestStreamHandler} called in process, as the Lambda
+ * runtime calls it, or a skill endpoint called over HTTP.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public interface LoadTarget extends Closeable {
+
+	/**
+	 * @param request the serialized request envelope
+	 * @return the serialized response envelope
+	 * @throws IOException if the request could not be answered
+	 */
+	byte[] send(byte[] request) throws IOException;
+
+	/**
+	 * The handler called in process with a speechlet of its own. A cold container is simulated by replacing
+	 * the speechlet every "containerRequests" requests: the new one starts with empty caches and no pooled
+	 * connection, and builds them while it is loaded. The speechlet replaced is closed once the requests it
+	 * is still answering end, as the container it stands for would be shut down. Class loading and JIT
+	 * compilation are only paid once per JVM, so a truly cold container is measured by the first requests of a
+	 * fresh run.
+	 */
+	final class InProcess implements LoadTarget {
+
+		private final Supplier<OxfordSpeechlet> speechlets;
+		private final long containerRequests;
+		private final Closeable resources;
+		private final AtomicLong requests = new AtomicLong();
+		private final AtomicLong containers = new AtomicLong();
+		private final AtomicReference<Container> container = new AtomicReference<>();
+
+		/**
+		 * @param speechlets creates the speechlet of a new container
+		 * @param containerRequests the number of requests served by a container, 0 for a single warm container
+		 * @param resources closed with the target, or null
+		 */
+		public InProcess(Supplier<OxfordSpeechlet> speechlets, long containerRequests, Closeable resources) {
+			this.speechlets = speechlets;
+			this.containerRequests = containerRequests;
+			this.resources = resources;
+			this.container.set(newContainer());
+		}
+
+		/**
+		 * @param responses the response bodies of the Oxford service by word
+		 * @param provider "fixtures" to answer in process, "stub" to answer through a {@link StubOxfordServer}
+		 * @param upstreamLatencyMillis the latency of every call to the Oxford service
+		 * @param containerRequests the number of requests served by a container, 0 for a single warm container
+		 * @return the target
+		 * @throws IOException if the stub server cannot be started
+		 */
+		public static InProcess create(Map<String, byte[]> responses, String provider, long upstreamLatencyMillis,
+				long containerRequests) throws IOException {
+			Supplier<DictionaryProvider> providers;
+			StubOxfordServer server = null;
+			if ("stub".equals(provider)) {
+				server = new StubOxfordServer(responses, upstreamLatencyMillis);
+				String endpoint = server.getEndpoint();
+				providers = () -> new OxfordClient(endpoint, "APP_ID", "APP_KEY", 1000, 2000, 4000, 2, 100, 20);
+			} else {
+				providers = () -> new FixtureDictionaryProvider(responses, upstreamLatencyMillis);
+			}
+			return new InProcess(() -> new OxfordSpeechlet(providers.get(), new WordCache(), null), containerRequests,
+					server);
+		}
+
+		@Override
+		public byte[] send(byte[] request) throws IOException {
+			Container current;
+			if (containerRequests > 0 && requests.incrementAndGet() % containerRequests == 0) {
+				current = newContainer();
+				current.acquire();
+				container.getAndSet(current).retire();
+			} else {
+				current = acquire();
+			}
+			try {
+				ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+				current.handler.handleRequest(new ByteArrayInputStream(request), output, null);
+				return output.toByteArray();
+			} finally {
+				current.release();
+			}
+		}
+
+		/**
+		 * @return the current container, counted as answering one more request
+		 */
+		private Container acquire() {
+			while (true) {
+				Container current = container.get();
+				if (current.acquire()) {
+					return current;
+				}
+			}
+		}
+
+		private Container newContainer() {
+			containers.incrementAndGet();
+			return new Container(speechlets.get());
+		}
+
+		/**
+		 * @return the number of containers started
+		 */
+		public long getContainerCount() {
+			return containers.get();
+		}
+
+		@Override
+		public void close() throws IOException {
+			container.get().retire();
+			if (resources != null) {
+				resources.close();
+			}
+		}
+
+		/**
+		 * A speechlet and the number of requests it is answering, closed after its last request once retired.
+		 */
+		private static final class Container {
+
+			private final OxfordSpeechlet speechlet;
+			private final OxfordSpeechletRequestStreamHandler handler;
+			private final AtomicInteger inFlight = new AtomicInteger();
+			private final AtomicBoolean closed = new AtomicBoolean();
+			private volatile boolean retired;
+
+			private Container(OxfordSpeechlet speechlet) {
+				this.speechlet = speechlet;
+				this.handler = new OxfordSpeechletRequestStreamHandler(speechlet,
+						Collections.singleton(RequestEnvelopes.APPLICATION_ID));
+			}
+
+			/**
+			 * @return false if the container was retired meanwhile, the request going to the new one
+			 */
+			boolean acquire() {
+				inFlight.incrementAndGet();
+				if (retired) {
+					release();
+					return false;
+				}
+				return true;
+			}
+
+			void release() {
+				if (inFlight.decrementAndGet() == 0 && retired) {
+					closeOnce();
+				}
+			}
+
+			void retire() {
+				retired = true;
+				if (inFlight.get() == 0) {
+					closeOnce();
+				}
+			}
+
+			private void closeOnce() {
+				if (closed.compareAndSet(false, true)) {
+					try {
+						speechlet.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * A skill endpoint, such as the {@link org.fadil.OxfordSkillServer}, called over HTTP. The endpoint must
+	 * accept the unsigned requests of the load generator, which is the case of the SpeechletServlet when the
+	 * system property "com.amazon.speech.speechlet.servlet.disableRequestSignatureCheck" is true.
+	 */
+	final class Http implements LoadTarget {
+
+		private final String url;
+		private final CloseableHttpClient httpClient;
+
+		/**
+		 * @param url the URL of the endpoint
+		 * @param maxConnections the number of requests sent at the same time
+		 */
+		public Http(String url, int maxConnections) {
+			this.url = url;
+			this.httpClient = HttpClients.custom()
+					.setMaxConnTotal(maxConnections)
+					.setMaxConnPerRoute(maxConnections)
+					.disableCookieManagement()
+					.build();
+		}
+
+		@Override
+		public byte[] send(byte[] request) throws IOException {
+			HttpPost post = new HttpPost(url);
+			post.setEntity(new ByteArrayEntity(request, ContentType.APPLICATION_JSON));
+			try (CloseableHttpResponse response = httpClient.execute(post)) {
+				int status = response.getStatusLine().getStatusCode();
+				byte[] body = EntityUtils.toByteArray(response.getEntity());
+				if (status != 200) {
+					throw new IOException("The endpoint answered " + status);
+				}
+				return body;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			httpClient.close();
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+package org.fadil.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Appender;
+import org.apache.log4j.AsyncAppender;
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.WriterAppender;
+import org.fadil.OxfordClient;
+import org.fadil.OxfordSpeechlet;
+import org.fadil.OxfordSpeechletRequestStreamHandler;
+import org.fadil.StubOxfordServer;
+import org.fadil.WordCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of logging per request, by handling a one-shot request answered from the
+ * {@link WordCache} with the logging configured as:
+ * <ul>
+ * <li>"off": nothing is logged, the baseline,</li>
+ * <li>"syncLocation": the former configuration, synchronous DEBUG logging with caller location,</li>
+ * <li>"async": the configuration of log4j.xml, asynchronous INFO logging without location.</li>
+ * </ul>
+ * The lines are formatted but written to a discarding writer, so the difference with the baseline
+ * is the overhead of logging on the request thread rather than the cost of the output.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+	private static final String SYNC_PATTERN =
+			"%d{yyyy-MM-dd HH:mm:ss} <%X{AWSRequestId}> %-5p %c{1}:%L requestId=%X{requestId} sessionId=%X{sessionId} - %m%n";
+	private static final String ASYNC_PATTERN =
+			"time=%d{ISO8601} level=%p logger=%c{1} awsRequestId=%X{AWSRequestId} requestId=%X{requestId} sessionId=%X{sessionId} %m%n";
+
+	@Param({ "off", "syncLocation", "async" })
+	public String logging;
+
+	private StubOxfordServer server;
+	private OxfordSpeechletRequestStreamHandler handler;
+	private byte[] oneshotRequest;
+
+	@Setup
+	public void setUp() throws IOException {
+		configureLogging();
+
+		server = new StubOxfordServer(Fixtures.responses(), 0);
+		OxfordClient client = new OxfordClient(server.getEndpoint(), "APP_ID", "APP_KEY", 1000, 2000, 4000, 0, 0, 20);
+		handler = new OxfordSpeechletRequestStreamHandler(new OxfordSpeechlet(client, new WordCache(), null),
+				Collections.singleton(RequestEnvelopes.APPLICATION_ID));
+		oneshotRequest = RequestEnvelopes.oneshot("amzn1.echo-api.session.benchmark", "serendipity");
+	}
+
+	@TearDown
+	public void tearDown() {
+		server.close();
+		LogManager.shutdown();
+	}
+
+	@Benchmark
+	public byte[] oneshot() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+		handler.handleRequest(new ByteArrayInputStream(oneshotRequest), output, null);
+		return output.toByteArray();
+	}
+
+	private void configureLogging() {
+		LogManager.resetConfiguration();
+		Logger root = LogManager.getRootLogger();
+		switch (logging) {
+
+			case "syncLocation":
+				root.setLevel(Level.DEBUG);
+				LogManager.getLogger("org.apache.http").setLevel(Level.INFO);
+				root.addAppender(discardingAppender(SYNC_PATTERN));
+				break;
+
+			case "async":
+				root.setLevel(Level.INFO);
+				AsyncAppender async = new AsyncAppender();
+				async.setBufferSize(1024);
+				async.setBlocking(false);
+				async.setLocationInfo(false);
+				async.addAppender(discardingAppender(ASYNC_PATTERN));
+				root.addAppender(async);
+				break;
+
+			default:
+				root.setLevel(Level.OFF);
+		}
+	}
+
+	private static Appender discardingAppender(String pattern) {
+		WriterAppender appender = new WriterAppender(new PatternLayout(pattern), new Writer() {
+
+			@Override
+			public void write(char[] buffer, int offset, int length) {
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		});
+		appender.setImmediateFlush(false);
+		return appender;
+	}
+
+}
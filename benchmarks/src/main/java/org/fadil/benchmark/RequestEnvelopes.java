@@ -0,0 +1,100 @@
+package org.fadil.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Builds serialized Alexa request envelopes, as they are given to the Lambda function.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class RequestEnvelopes {
+
+	public static final String APPLICATION_ID = "APP_ID";
+
+	private RequestEnvelopes() {
+	}
+
+	public static byte[] launch(String sessionId) {
+		return envelope(sessionId, true, "{}",
+				"{\"type\":\"LaunchRequest\",\"requestId\":\"" + requestId() + "\",\"timestamp\":\"" + timestamp()
+						+ "\",\"locale\":\"en-GB\"}");
+	}
+
+	public static byte[] oneshot(String sessionId, String word) {
+		return intent(sessionId, true, "{}", "OneshotOxfordIntent",
+				"{\"Word\":{\"name\":\"Word\",\"value\":\"" + word + "\"}}");
+	}
+
+	public static byte[] dialog(String sessionId, String word) {
+		return intent(sessionId, false, "{}", "DialogOxfordIntent",
+				word == null ? "{\"Word\":{\"name\":\"Word\"}}" : "{\"Word\":{\"name\":\"Word\",\"value\":\"" + word + "\"}}");
+	}
+
+	/**
+	 * @param words up to three words, filling the slots WordOne, WordTwo and WordThree
+	 */
+	public static byte[] batch(String sessionId, String... words) {
+		String[] slotNames = { "WordOne", "WordTwo", "WordThree" };
+		StringBuilder slots = new StringBuilder("{");
+		for (int i = 0; i < words.length; i++) {
+			slots.append(i > 0 ? "," : "")
+					.append("\"").append(slotNames[i]).append("\":{\"name\":\"").append(slotNames[i])
+					.append("\",\"value\":\"").append(words[i]).append("\"}");
+		}
+		return intent(sessionId, true, "{}", "BatchOxfordIntent", slots.append('}').toString());
+	}
+
+	/**
+	 * @param attributes the session attributes as a JSON object, as returned in the previous response
+	 */
+	public static byte[] yes(String sessionId, String attributes) {
+		return intent(sessionId, false, attributes, "AMAZON.YesIntent", "{}");
+	}
+
+	/**
+	 * @param word the word of the previous answer, as kept in the session attribute "WORD"
+	 */
+	public static byte[] more(String sessionId, String word) {
+		return intent(sessionId, false, "{\"WORD\":\"" + word + "\"}", "MoreOxfordIntent", "{}");
+	}
+
+	public static byte[] no(String sessionId) {
+		return intent(sessionId, false, "{}", "AMAZON.NoIntent", "{}");
+	}
+
+	public static byte[] sessionEnded(String sessionId) {
+		return envelope(sessionId, false, "{}",
+				"{\"type\":\"SessionEndedRequest\",\"requestId\":\"" + requestId() + "\",\"timestamp\":\"" + timestamp()
+						+ "\",\"locale\":\"en-GB\",\"reason\":\"USER_INITIATED\"}");
+	}
+
+	private static byte[] intent(String sessionId, boolean isNew, String attributes, String intentName, String slots) {
+		return envelope(sessionId, isNew, attributes,
+				"{\"type\":\"IntentRequest\",\"requestId\":\"" + requestId() + "\",\"timestamp\":\"" + timestamp()
+						+ "\",\"locale\":\"en-GB\",\"intent\":{\"name\":\"" + intentName + "\",\"slots\":" + slots + "}}");
+	}
+
+	private static byte[] envelope(String sessionId, boolean isNew, String attributes, String request) {
+		String json = "{\"version\":\"1.0\","
+				+ "\"session\":{\"new\":" + isNew + ",\"sessionId\":\"" + sessionId + "\","
+				+ "\"application\":{\"applicationId\":\"" + APPLICATION_ID + "\"},"
+				+ "\"attributes\":" + attributes + ","
+				+ "\"user\":{\"userId\":\"amzn1.ask.account.benchmark\"}},"
+				+ "\"request\":" + request + "}";
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String timestamp() {
+		return Instant.now().truncatedTo(ChronoUnit.SECONDS).toString();
+	}
+
+	private static String requestId() {
+		return "amzn1.echo-api.request." + Long.toHexString(System.nanoTime());
+	}
+
+}
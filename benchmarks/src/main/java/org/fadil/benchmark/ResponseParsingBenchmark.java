@@ -0,0 +1,113 @@
+package org.fadil.benchmark;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.fadil.OxfordResponseParser;
+import org.fadil.WordDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the extraction of {@link WordDetails} from recorded Oxford responses:
+ * the original path (body buffered line by line into a String, then a full tree),
+ * a full tree read directly from the stream, and the streaming {@link OxfordResponseParser}.
+ *
+ * Run with "-prof gc" to compare the allocation rates.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseParsingBenchmark {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	@Param({ "serendipity", "ace", "run", "set" })
+	public String word;
+
+	private byte[] response;
+
+	@Setup
+	public void setUp() {
+		response = Fixtures.load(word);
+	}
+
+	@Benchmark
+	public WordDetails bufferedTree() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(new ByteArrayInputStream(response), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				builder.append(line);
+			}
+		}
+		return retrieveWordDetails(MAPPER.readTree(builder.toString()));
+	}
+
+	@Benchmark
+	public WordDetails streamedTree() throws IOException {
+		return retrieveWordDetails(MAPPER.readTree(new ByteArrayInputStream(response)));
+	}
+
+	@Benchmark
+	public WordDetails streamingExtraction() throws IOException {
+		return OxfordResponseParser.parse(new ByteArrayInputStream(response));
+	}
+
+	/**
+	 * The tree walk used before {@link OxfordResponseParser}, kept here as the baseline.
+	 */
+	private static WordDetails retrieveWordDetails(JsonNode oxfordResponseObject) {
+		Optional<String> lexicalCategory = Optional.empty();
+		Optional<String> definition = Optional.empty();
+		List<String> examples = new ArrayList<>();
+
+		JsonNode lexicalEntry = oxfordResponseObject.path("results").path(0).path("lexicalEntries").path(0);
+		if (!lexicalEntry.isMissingNode()) {
+			lexicalCategory = lexicalEntry.path("lexicalCategory").isTextual() ?
+					Optional.of(lexicalEntry.path("lexicalCategory").asText()) : Optional.empty();
+
+			JsonNode sense = lexicalEntry.path("entries").path(0).path("senses").path(0);
+			if (!sense.isMissingNode()) {
+				JsonNode definitionNode = sense.path("definitions").path(0);
+				definition = definitionNode.isTextual() ? Optional.of(definitionNode.asText()) : Optional.empty();
+
+				for (JsonNode example : sense.path("examples")) {
+					if (example.path("text").isTextual()) {
+						examples.add(example.path("text").asText());
+					}
+				}
+			}
+		}
+		return new WordDetails(lexicalCategory, definition, examples);
+	}
+
+}
@@ -0,0 +1,134 @@
+package org.fadil.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.fadil.DictionarySnapshot;
+import org.fadil.DictionarySnapshotWriter;
+import org.fadil.OxfordClient;
+import org.fadil.OxfordResponseParser;
+import org.fadil.OxfordSpeechlet;
+import org.fadil.OxfordSpeechletRequestStreamHandler;
+import org.fadil.SessionExamples;
+import org.fadil.StubOxfordServer;
+import org.fadil.WordCache;
+import org.fadil.WordDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures the cost of the examples kept in the Session with the encodings of {@link SessionExamples}:
+ * <ul>
+ * <li>"list": the former encoding, the full list of examples,</li>
+ * <li>"compact": the examples stored inline as one capped string,</li>
+ * <li>"reference": the word is in the {@link DictionarySnapshot}, only the word is stored.</li>
+ * </ul>
+ * "oneshot" serializes the response carrying the examples, "yes" deserializes the request sending them back
+ * and speaks them. The sizes of both payloads are printed during the setup.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionAttributesBenchmark {
+
+	private static final String SESSION_ID = "amzn1.echo-api.session.benchmark";
+
+	@Param({ "list", "compact", "reference" })
+	public String encoding;
+
+	/** A word with a recorded response. */
+	@Param({ "run", "set" })
+	public String word;
+
+	private StubOxfordServer server;
+	private Path file;
+	private OxfordSpeechletRequestStreamHandler handler;
+	private byte[] oneshotRequest;
+	private byte[] yesRequest;
+
+	@Setup
+	public void setUp() throws IOException {
+		server = new StubOxfordServer(Fixtures.responses(), 0);
+		OxfordClient client = new OxfordClient(server.getEndpoint(), "APP_ID", "APP_KEY", 1000, 2000, 4000, 0, 0, 20);
+
+		DictionarySnapshot snapshot = null;
+		if ("reference".equals(encoding)) {
+			Map<String, WordDetails> words = new LinkedHashMap<>();
+			words.put(word, OxfordResponseParser.parse(Fixtures.load(word)));
+			file = Files.createTempFile("dictionary", ".snap");
+			DictionarySnapshotWriter.write(words, file);
+			snapshot = DictionarySnapshot.open(file);
+		}
+		System.setProperty("OXFORD_SESSION_COMPACT", Boolean.toString(!"list".equals(encoding)));
+		System.setProperty("OXFORD_PREFETCH", "false");
+		try {
+			handler = new OxfordSpeechletRequestStreamHandler(
+					new OxfordSpeechlet(client, new WordCache(), null, snapshot, null),
+					Collections.singleton(RequestEnvelopes.APPLICATION_ID));
+		} finally {
+			System.clearProperty("OXFORD_SESSION_COMPACT");
+			System.clearProperty("OXFORD_PREFETCH");
+		}
+
+		oneshotRequest = RequestEnvelopes.oneshot(SESSION_ID, word);
+		byte[] oneshotResponse = handle(oneshotRequest);
+		String attributes = new ObjectMapper().readTree(oneshotResponse).get("sessionAttributes").toString();
+		yesRequest = RequestEnvelopes.yes(SESSION_ID, attributes);
+		byte[] yesResponse = handle(yesRequest);
+
+		System.out.printf("%n%s %s: oneshot response %d bytes, yes request %d bytes (attributes %d bytes), yes response %d bytes%n",
+				encoding, word, oneshotResponse.length, yesRequest.length, attributes.length(), yesResponse.length);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		server.close();
+		if (file != null) {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Benchmark
+	public byte[] oneshot() throws IOException {
+		return handle(oneshotRequest);
+	}
+
+	@Benchmark
+	public byte[] yes() throws IOException {
+		return handle(yesRequest);
+	}
+
+	private byte[] handle(byte[] request) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+		handler.handleRequest(new ByteArrayInputStream(request), output, null);
+		return output.toByteArray();
+	}
+
+}
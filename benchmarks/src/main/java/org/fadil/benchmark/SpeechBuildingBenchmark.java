@@ -0,0 +1,106 @@
+package org.fadil.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.fadil.OxfordClient;
+import org.fadil.OxfordResponseParser;
+import org.fadil.OxfordSpeechlet;
+import org.fadil.WordCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazon.speech.json.SpeechletRequestEnvelope;
+import com.amazon.speech.json.SpeechletResponseEnvelope;
+import com.amazon.speech.speechlet.IntentRequest;
+import com.amazon.speech.speechlet.SpeechletResponse;
+
+/**
+ * Measures {@link OxfordSpeechlet#onIntent} on an already deserialized envelope with every word in the cache,
+ * that is the speech and response building without any JSON or network work, and the serialization of the
+ * resulting response envelope. Logging is turned off, see {@link LoggingBenchmark} for its cost.
+ * Run with "-prof gc" to get the allocation per response.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpeechBuildingBenchmark {
+
+	@Param({ "serendipity", "set" })
+	public String word;
+
+	private OxfordSpeechlet speechlet;
+	private SpeechletRequestEnvelope<IntentRequest> oneshotEnvelope;
+	private SpeechletRequestEnvelope<IntentRequest> yesEnvelope;
+	private SpeechletRequestEnvelope<IntentRequest> noEnvelope;
+	private SpeechletResponseEnvelope responseEnvelope;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() throws IOException {
+		LogManager.resetConfiguration();
+		LogManager.getRootLogger().setLevel(Level.OFF);
+
+		WordCache wordCache = new WordCache();
+		wordCache.put(word, OxfordResponseParser.parse(new ByteArrayInputStream(Fixtures.load(word))));
+		OxfordClient unusedClient = new OxfordClient("http://127.0.0.1:9/", "APP_ID", "APP_KEY", 1, 1, 1, 0, 0, 1);
+		System.setProperty("OXFORD_PREFETCH", "false");
+		try {
+			speechlet = new OxfordSpeechlet(unusedClient, wordCache, null);
+		} finally {
+			System.clearProperty("OXFORD_PREFETCH");
+		}
+
+		oneshotEnvelope = (SpeechletRequestEnvelope<IntentRequest>) SpeechletRequestEnvelope
+				.fromJson(RequestEnvelopes.oneshot("session", word));
+		yesEnvelope = (SpeechletRequestEnvelope<IntentRequest>) SpeechletRequestEnvelope
+				.fromJson(RequestEnvelopes.yes("session", "{\"EXAMPLES\":[\"the first example\",\"the second example\"]}"));
+		noEnvelope = (SpeechletRequestEnvelope<IntentRequest>) SpeechletRequestEnvelope
+				.fromJson(RequestEnvelopes.no("session"));
+
+		responseEnvelope = new SpeechletResponseEnvelope();
+		responseEnvelope.setResponse(speechlet.onIntent(oneshotEnvelope));
+		responseEnvelope.setSessionAttributes(oneshotEnvelope.getSession().getAttributes());
+	}
+
+	@Benchmark
+	public SpeechletResponse oneshotSpeech() {
+		return speechlet.onIntent(oneshotEnvelope);
+	}
+
+	@Benchmark
+	public SpeechletResponse examplesSpeech() {
+		return speechlet.onIntent(yesEnvelope);
+	}
+
+	@Benchmark
+	public SpeechletResponse exitSpeech() {
+		return speechlet.onIntent(noEnvelope);
+	}
+
+	@Benchmark
+	public byte[] responseSerialization() throws IOException {
+		return responseEnvelope.toJsonBytes();
+	}
+
+}
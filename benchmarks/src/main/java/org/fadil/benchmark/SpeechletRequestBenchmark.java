@@ -0,0 +1,103 @@
+package org.fadil.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.fadil.OxfordClient;
+import org.fadil.OxfordSpeechlet;
+import org.fadil.OxfordSpeechletRequestStreamHandler;
+import org.fadil.StubOxfordServer;
+import org.fadil.WordCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Drives {@link OxfordSpeechletRequestStreamHandler#handleRequest} end to end with serialized request envelopes,
+ * the Oxford service being replaced by a {@link StubOxfordServer} serving the recorded responses.
+ *
+ * The throughput and sample time modes report ops/s and the latency percentiles (p99 included).
+ * Run with "-prof gc" to get the allocation rate per request.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpeechletRequestBenchmark {
+
+	private static final String SESSION_ID = "amzn1.echo-api.session.benchmark";
+
+	/** "warm" answers repeated lookups from the WordCache, "cold" calls the stub server for every lookup. */
+	@Param({ "warm", "cold" })
+	public String cache;
+
+	/** A word with a recorded response, or "unknown" for a word answered with 404. */
+	@Param({ "serendipity", "set", "unknown" })
+	public String word;
+
+	private StubOxfordServer server;
+	private OxfordSpeechletRequestStreamHandler handler;
+	private byte[] oneshotRequest;
+	private byte[] launchRequest;
+	private byte[] yesRequest;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		server = new StubOxfordServer(Fixtures.responses(), 0);
+		OxfordClient client = new OxfordClient(server.getEndpoint(), "APP_ID", "APP_KEY", 1000, 2000, 4000, 0, 0, 20);
+		WordCache wordCache = "warm".equals(cache) ? new WordCache() : new WordCache(0, 0, 0, 0);
+		handler = new OxfordSpeechletRequestStreamHandler(new OxfordSpeechlet(client, wordCache, null),
+				Collections.singleton(RequestEnvelopes.APPLICATION_ID));
+
+		oneshotRequest = RequestEnvelopes.oneshot(SESSION_ID, word);
+		launchRequest = RequestEnvelopes.launch(SESSION_ID);
+		yesRequest = RequestEnvelopes.yes(SESSION_ID, "{\"EXAMPLES\":[\"the first example\",\"the second example\"]}");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		server.close();
+	}
+
+	@Benchmark
+	public byte[] oneshot() throws IOException {
+		return handle(oneshotRequest);
+	}
+
+	@Benchmark
+	public byte[] launch() throws IOException {
+		return handle(launchRequest);
+	}
+
+	@Benchmark
+	public byte[] yes() throws IOException {
+		return handle(yesRequest);
+	}
+
+	private byte[] handle(byte[] request) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+		handler.handleRequest(new ByteArrayInputStream(request), output, null);
+		return output.toByteArray();
+	}
+
+}
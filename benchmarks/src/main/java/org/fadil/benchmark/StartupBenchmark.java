@@ -0,0 +1,98 @@
+package org.fadil.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.fadil.OxfordSpeechletRequestStreamHandler;
+import org.fadil.StubOxfordServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the start of a container: every measurement runs in a fresh JVM. "init" creates the handler
+ * (the Lambda init phase), "firstLookup" handles a first one-shot request against a {@link StubOxfordServer}
+ * once the handler exists, and "initAndFirstLookup" does both. Comparing priming "false" and "true" shows
+ * what the priming moves from the first request into the init phase.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+	@Param({ "false", "true" })
+	public String priming;
+
+	private StubOxfordServer server;
+	private byte[] oneshotRequest;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		server = new StubOxfordServer(Fixtures.responses(), 0);
+		// read by the static initialization of the handler, which has not run yet in this JVM
+		System.setProperty("OXFORD_ENDPOINT", server.getEndpoint());
+		System.setProperty("OXFORD_PRIMING", priming);
+		oneshotRequest = RequestEnvelopes.oneshot("amzn1.echo-api.session.startup", "serendipity");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		server.close();
+	}
+
+	@Benchmark
+	public Object init() {
+		return new OxfordSpeechletRequestStreamHandler();
+	}
+
+	@Benchmark
+	public byte[] initAndFirstLookup() throws IOException {
+		return handle(new OxfordSpeechletRequestStreamHandler(), oneshotRequest);
+	}
+
+	@Benchmark
+	public byte[] firstLookup(Initialized initialized) throws IOException {
+		return handle(initialized.handler, oneshotRequest);
+	}
+
+	private static byte[] handle(OxfordSpeechletRequestStreamHandler handler, byte[] request) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+		handler.handleRequest(new ByteArrayInputStream(request), output, null);
+		return output.toByteArray();
+	}
+
+	/**
+	 * A container which went through its init phase, for measuring the first request alone.
+	 */
+	@State(Scope.Benchmark)
+	public static class Initialized {
+
+		private OxfordSpeechletRequestStreamHandler handler;
+
+		@Setup(Level.Trial)
+		public void setUp(StartupBenchmark benchmark) {
+			handler = new OxfordSpeechletRequestStreamHandler();
+		}
+	}
+
+}
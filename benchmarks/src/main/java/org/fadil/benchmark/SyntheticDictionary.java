@@ -0,0 +1,123 @@
+package org.fadil.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.fadil.WordDetails;
+
+/**
+ * Generates reproducible dictionaries of made-up words, with definitions and examples of realistic sizes,
+ * for the benchmarks which need more words than the recorded responses provide.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class SyntheticDictionary {
+
+	private static final String[] CATEGORIES = { "Noun", "Verb", "Adjective", "Adverb", "Preposition", "Interjection" };
+	private static final String CONSONANTS = "bcdfghjklmnprstvwz";
+	private static final String VOWELS = "aeiou";
+
+	private SyntheticDictionary() {
+	}
+
+	/**
+	 * @param size the number of words
+	 * @return the details of distinct pronounceable words, always the same for a given size
+	 */
+	public static Map<String, WordDetails> generate(int size) {
+		Random random = new Random(size);
+		Map<String, WordDetails> words = new LinkedHashMap<>(size * 2);
+		while (words.size() < size) {
+			String word = word(random, 3 + random.nextInt(8));
+			if (!words.containsKey(word)) {
+				List<String> examples = new ArrayList<>();
+				for (int i = random.nextInt(4); i > 0; i--) {
+					examples.add(sentence(random, 6 + random.nextInt(8)));
+				}
+				words.put(word, new WordDetails(Optional.of(CATEGORIES[random.nextInt(CATEGORIES.length)]),
+						Optional.of(sentence(random, 8 + random.nextInt(12))), examples));
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * @param words the words, as made up by {@link #generate(int)}
+	 * @return the response bodies of the Oxford entries endpoint for the words
+	 */
+	public static Map<String, byte[]> responses(Map<String, WordDetails> words) {
+		Map<String, byte[]> responses = new HashMap<>(words.size() * 2);
+		for (Map.Entry<String, WordDetails> entry : words.entrySet()) {
+			responses.put(entry.getKey(), responseBody(entry.getKey(), entry.getValue()));
+		}
+		return responses;
+	}
+
+	/**
+	 * @param word
+	 * @param details
+	 * @return the body the Oxford entries endpoint would answer for the word, with a single sense
+	 */
+	public static byte[] responseBody(String word, WordDetails details) {
+		StringBuilder examples = new StringBuilder();
+		for (String example : details.getExamples()) {
+			examples.append(examples.length() > 0 ? "," : "").append("{\"text\":\"").append(example).append("\"}");
+		}
+		String json = "{\"metadata\":{\"provider\":\"Oxford University Press\"},\"results\":[{\"id\":\"" + word
+				+ "\",\"language\":\"en\",\"lexicalEntries\":[{\"entries\":[{\"senses\":[{\"definitions\":[\""
+				+ details.getDefinition().orElse("") + "\"],\"examples\":[" + examples + "]}]}],\"language\":\"en\","
+				+ "\"lexicalCategory\":\"" + details.getLexicalCategory().orElse("") + "\",\"text\":\"" + word + "\"}],"
+				+ "\"type\":\"headword\",\"word\":\"" + word + "\"}]}";
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param size the number of words
+	 * @return distinct pronounceable words, always the same for a given size
+	 */
+	public static List<String> lemmas(int size) {
+		Random random = new Random(size);
+		Set<String> words = new LinkedHashSet<>(size * 2);
+		while (words.size() < size) {
+			words.add(word(random, 3 + random.nextInt(8)));
+		}
+		return new ArrayList<>(words);
+	}
+
+	/**
+	 * @param random
+	 * @param length
+	 * @return a pronounceable made-up word alternating consonants and vowels
+	 */
+	public static String word(Random random, int length) {
+		StringBuilder word = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			String letters = i % 2 == 0 ? CONSONANTS : VOWELS;
+			word.append(letters.charAt(random.nextInt(letters.length())));
+		}
+		return word.toString();
+	}
+
+	private static String sentence(Random random, int words) {
+		StringBuilder sentence = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			if (i > 0) {
+				sentence.append(' ');
+			}
+			sentence.append(word(random, 2 + random.nextInt(7)));
+		}
+		return sentence.toString();
+	}
+
+}
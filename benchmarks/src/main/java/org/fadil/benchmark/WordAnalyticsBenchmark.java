@@ -0,0 +1,84 @@
+package org.fadil.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.fadil.WordAnalytics;
+import org.fadil.WordFrequencySketch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what the {@link WordAnalytics} add to a request: counting a word drawn from a Zipf distribution
+ * over vocabularies of increasing size, by one thread and by four threads sharing the sketch, with the default
+ * sizes of the {@link WordFrequencySketch}. The larger the vocabulary, the more often a word missing from the
+ * Space-Saving summary replaces the least counted one.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordAnalyticsBenchmark {
+
+	private static final int QUERIES = 4096;
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private WordAnalytics analytics;
+	private String[] queries = new String[QUERIES];
+
+	@Setup
+	public void setUp() {
+		List<String> lemmas = SyntheticDictionary.lemmas(size);
+		ZipfSampler sampler = new ZipfSampler(lemmas.size(), 1.0);
+		Random random = new Random(42);
+		for (int i = 0; i < QUERIES; i++) {
+			queries[i] = lemmas.get(sampler.next(random));
+		}
+		analytics = new WordAnalytics(new WordFrequencySketch(4, 4096, 256), null, 100, TimeUnit.DAYS.toSeconds(1));
+	}
+
+	/**
+	 * The position of a thread in the queries, so that the threads do not share a counter.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int next = new Random().nextInt(QUERIES);
+
+		String next(String[] queries) {
+			return queries[next++ & (QUERIES - 1)];
+		}
+	}
+
+	@Benchmark
+	public void record(Cursor cursor) {
+		analytics.record(cursor.next(queries));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void recordContended(Cursor cursor) {
+		analytics.record(cursor.next(queries));
+	}
+
+}
@@ -0,0 +1,45 @@
+package org.fadil.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples ranks following a Zipf distribution: the rank k, from 0, is drawn with a probability proportional
+ * to 1 / (k + 1)^exponent, so a few words make most of the lookups and the long tail is rarely asked for,
+ * as in the logged queries of the skill.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class ZipfSampler {
+
+	private final double[] cumulative;
+
+	/**
+	 * @param size the number of ranks
+	 * @param exponent the skew of the distribution, 0 for a uniform distribution
+	 */
+	public ZipfSampler(int size, double exponent) {
+		cumulative = new double[size];
+		double total = 0;
+		for (int k = 0; k < size; k++) {
+			total += 1 / Math.pow(k + 1, exponent);
+			cumulative[k] = total;
+		}
+		for (int k = 0; k < size; k++) {
+			cumulative[k] /= total;
+		}
+	}
+
+	/**
+	 * @param random
+	 * @return a rank between 0 and size - 1
+	 */
+	public int next(Random random) {
+		int index = Arrays.binarySearch(cumulative, random.nextDouble());
+		return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+	}
+
+}
@@ -0,0 +1,200 @@
+package org.fadil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.MDC;
+
+/**
+ * This class looks several words up concurrently for a single request, so that the request takes about as
+ * long as its slowest lookup rather than the sum of them.
+ *
+ * The lookups run on a bounded pool of daemon threads and the request waits for them until a deadline.
+ * A lookup still running at the deadline is reported as timed out, so that the other words are answered,
+ * but it is left to complete: its answer still fills the caches for the next request. When the pool and
+ * its queue are full, the words which cannot be queued are reported as unavailable.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class BatchLookup {
+
+	/**
+	 * The lookup of one word.
+	 */
+	public interface Lookup {
+		WordDetails lookup(String word) throws OxfordServiceException;
+	}
+
+	/**
+	 * The outcome of the lookup of one word: its details, or the reason why there are none.
+	 */
+	public static final class Result {
+
+		private final String word;
+		private final WordDetails wordDetails;
+		private final OxfordServiceException.Failure failure;
+
+		private Result(String word, WordDetails wordDetails, OxfordServiceException.Failure failure) {
+			this.word = word;
+			this.wordDetails = wordDetails;
+			this.failure = failure;
+		}
+
+		public String getWord() {
+			return word;
+		}
+
+		/**
+		 * @return the details of the word, or null if the lookup failed
+		 */
+		public WordDetails getWordDetails() {
+			return wordDetails;
+		}
+
+		/**
+		 * @return the reason of the failure, or null if the lookup succeeded
+		 */
+		public OxfordServiceException.Failure getFailure() {
+			return failure;
+		}
+
+		@Override
+		public String toString() {
+			return "Result [word=" + word + ", wordDetails=" + wordDetails + ", failure=" + failure + "]";
+		}
+	}
+
+	private final ExecutorService executor;
+	private final long deadlineMillis;
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	/**
+	 * Creates the batch lookup using the settings OXFORD_BATCH_THREADS, OXFORD_BATCH_QUEUE and
+	 * OXFORD_BATCH_DEADLINE_MILLIS.
+	 */
+	public BatchLookup() {
+		this(Config.getInt("OXFORD_BATCH_THREADS", 8),
+				Config.getInt("OXFORD_BATCH_QUEUE", 64),
+				Config.getLong("OXFORD_BATCH_DEADLINE_MILLIS", 3000));
+	}
+
+	/**
+	 * @param threads the number of lookups running at the same time, across all requests
+	 * @param queueCapacity the number of lookups waiting for a thread, beyond which they are rejected
+	 * @param deadlineMillis how long a request waits for its lookups
+	 */
+	public BatchLookup(int threads, int queueCapacity, long deadlineMillis) {
+		this.deadlineMillis = deadlineMillis;
+		this.executor = DaemonExecutors.bounded("batch-lookup", threads, queueCapacity);
+	}
+
+	/**
+	 * @param words the words to look up
+	 * @param lookup the lookup of one word
+	 * @return the result of every word, in the order of the words
+	 */
+	public List<Result> lookupAll(List<String> words, Lookup lookup) {
+		return lookupAll(words, lookup, deadlineMillis);
+	}
+
+	/**
+	 * @param words the words to look up
+	 * @param lookup the lookup of one word
+	 * @param remainingMillis the time left to the request, when shorter than the deadline of the batch lookup
+	 * @return the result of every word, in the order of the words
+	 */
+	public List<Result> lookupAll(List<String> words, Lookup lookup, long remainingMillis) {
+		List<CompletableFuture<WordDetails>> futures = new ArrayList<>(words.size());
+		Map<String, String> context = MDC.getCopyOfContextMap();
+		for (String word : words) {
+			CompletableFuture<WordDetails> future = new CompletableFuture<>();
+			try {
+				executor.execute(() -> {
+					// the lines logged by the lookup carry the ids of the request
+					if (context != null) {
+						MDC.setContextMap(context);
+					}
+					try {
+						future.complete(lookup.lookup(word));
+					} catch (Throwable t) {
+						future.completeExceptionally(t);
+					} finally {
+						MDC.clear();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				rejectedCount.incrementAndGet();
+				future.completeExceptionally(new OxfordServiceException(OxfordServiceException.Failure.UNAVAILABLE,
+						"Too many lookups in flight to look up " + word));
+			}
+			futures.add(future);
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(deadlineMillis, remainingMillis));
+		List<Result> results = new ArrayList<>(words.size());
+		for (int i = 0; i < words.size(); i++) {
+			results.add(await(words.get(i), futures.get(i), deadline));
+		}
+		return results;
+	}
+
+	private Result await(String word, CompletableFuture<WordDetails> future, long deadline) {
+		try {
+			return new Result(word, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS), null);
+		} catch (TimeoutException e) {
+			timeoutCount.incrementAndGet();
+			return new Result(word, null, OxfordServiceException.Failure.TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return new Result(word, null, OxfordServiceException.Failure.UNAVAILABLE);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof OxfordServiceException) {
+				return new Result(word, null, ((OxfordServiceException) cause).getFailure());
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			return new Result(word, null, OxfordServiceException.Failure.UNAVAILABLE);
+		}
+	}
+
+	/**
+	 * @return the number of lookups still running at the deadline of their request
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+
+	/**
+	 * @return the number of lookups rejected because the pool and its queue were full
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	/**
+	 * Stops the threads of the lookups. The lookups still queued are dropped.
+	 */
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	@Override
+	public String toString() {
+		return "BatchLookup [timeoutCount=" + timeoutCount + ", rejectedCount=" + rejectedCount + "]";
+	}
+
+}
@@ -0,0 +1,181 @@
+package org.fadil;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class stops calling the Oxford service while it is unhealthy, so that requests fail in microseconds
+ * instead of each waiting for its own timeouts.
+ *
+ * The breaker is CLOSED while the service answers: the outcomes of the last "windowSize" calls are kept, and
+ * the breaker OPENS when at least "minimumCalls" of them are known and the ratio of failures reaches
+ * "failureRateThreshold". Open, it rejects every call for "openMillis", then becomes HALF_OPEN and lets a
+ * single probe call through: the breaker CLOSES if the probe succeeds and OPENS again if it fails.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class CircuitBreaker {
+
+	/**
+	 * The state of the breaker.
+	 */
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private static final Logger LOG = LoggerFactory.getLogger(CircuitBreaker.class);
+	private static final Metrics METRICS = Metrics.get();
+
+	private final boolean[] failures;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final long openNanos;
+
+	private State state = State.CLOSED;
+	private int next;
+	private int calls;
+	private int failureCount;
+	private long openedAt;
+	private boolean probing;
+
+	/**
+	 * Creates a breaker using the settings OXFORD_BREAKER_WINDOW, OXFORD_BREAKER_MINIMUM_CALLS,
+	 * OXFORD_BREAKER_FAILURE_RATE (in percent) and OXFORD_BREAKER_OPEN_MILLIS.
+	 */
+	public CircuitBreaker() {
+		this(Config.getInt("OXFORD_BREAKER_WINDOW", 20),
+				Config.getInt("OXFORD_BREAKER_MINIMUM_CALLS", 10),
+				Config.getInt("OXFORD_BREAKER_FAILURE_RATE", 50) / 100.0,
+				Config.getLong("OXFORD_BREAKER_OPEN_MILLIS", 5000));
+	}
+
+	/**
+	 * @param windowSize the number of last calls whose outcome is kept
+	 * @param minimumCalls the number of calls needed before the breaker can open
+	 * @param failureRateThreshold the ratio of failures, between 0 and 1, opening the breaker
+	 * @param openMillis how long the breaker rejects the calls before probing the service
+	 */
+	public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openMillis) {
+		this.failures = new boolean[Math.max(1, windowSize)];
+		this.minimumCalls = Math.max(1, Math.min(minimumCalls, failures.length));
+		this.failureRateThreshold = failureRateThreshold;
+		this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+	}
+
+	/**
+	 * @return true if the call may go to the service, in which case its outcome must be recorded with
+	 * 				{@link #onSuccess()} or {@link #onFailure()}; false if it must fail fast
+	 */
+	public synchronized boolean tryAcquire() {
+		switch (state) {
+
+			case CLOSED:
+				return true;
+
+			case OPEN:
+				if (System.nanoTime() - openedAt < openNanos) {
+					METRICS.recordUpstreamEvent(Metrics.UpstreamEvent.BREAKER_REJECTED);
+					return false;
+				}
+				transition(State.HALF_OPEN);
+				probing = true;
+				return true;
+
+			default:
+				if (probing) {
+					METRICS.recordUpstreamEvent(Metrics.UpstreamEvent.BREAKER_REJECTED);
+					return false;
+				}
+				probing = true;
+				return true;
+		}
+	}
+
+	/**
+	 * Records a call answered by the service, even if the word is unknown to it.
+	 */
+	public synchronized void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			probing = false;
+			reset();
+			transition(State.CLOSED);
+		} else if (state == State.CLOSED) {
+			record(false);
+		}
+	}
+
+	/**
+	 * Records a call which timed out, could not connect, or was answered with a server error or a rate limit.
+	 */
+	public synchronized void onFailure() {
+		if (state == State.HALF_OPEN) {
+			probing = false;
+			open();
+		} else if (state == State.CLOSED) {
+			record(true);
+			if (calls >= minimumCalls && failureCount >= failureRateThreshold * calls) {
+				open();
+			}
+		}
+	}
+
+	/**
+	 * Releases a call allowed by {@link #tryAcquire()} which did not reach the service after all.
+	 */
+	public synchronized void release() {
+		if (state == State.HALF_OPEN) {
+			probing = false;
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	private void record(boolean failure) {
+		if (calls == failures.length) {
+			if (failures[next]) {
+				failureCount--;
+			}
+		} else {
+			calls++;
+		}
+		failures[next] = failure;
+		if (failure) {
+			failureCount++;
+		}
+		next = (next + 1) % failures.length;
+	}
+
+	private void open() {
+		openedAt = System.nanoTime();
+		reset();
+		transition(State.OPEN);
+	}
+
+	private void reset() {
+		next = 0;
+		calls = 0;
+		failureCount = 0;
+	}
+
+	private void transition(State target) {
+		if (state != target) {
+			LOG.warn("circuitBreaker from={} to={}", state, target);
+			state = target;
+			METRICS.recordUpstreamEvent(target == State.OPEN ? Metrics.UpstreamEvent.BREAKER_OPENED
+					: target == State.HALF_OPEN ? Metrics.UpstreamEvent.BREAKER_HALF_OPENED : Metrics.UpstreamEvent.BREAKER_CLOSED);
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "CircuitBreaker [state=" + state + ", calls=" + calls + ", failureCount=" + failureCount + "]";
+	}
+
+}
@@ -0,0 +1,88 @@
+package org.fadil;
+
+/**
+ * This class bounds the number of calls to the Oxford service in flight with a limit adapting itself to the
+ * health of the service (additive increase, multiplicative decrease): every successful call raises the limit
+ * by 1/limit, about one more call per round of calls, and every call which timed out or was rate limited
+ * cuts the limit by "backoffRatio". A call over the limit is rejected at once rather than queued, which
+ * keeps the Oxford quota and the connection pool for the calls most likely to succeed.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class ConcurrencyLimiter {
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+
+	private double limit;
+	private int inFlight;
+
+	/**
+	 * Creates a limiter using the settings OXFORD_LIMIT_INITIAL, OXFORD_LIMIT_MIN, OXFORD_LIMIT_MAX and
+	 * OXFORD_LIMIT_BACKOFF (in percent of the limit kept on a failure).
+	 * @param maxConnections the size of the connection pool, the default maximum
+	 */
+	public ConcurrencyLimiter(int maxConnections) {
+		this(Config.getInt("OXFORD_LIMIT_INITIAL", Math.max(1, maxConnections / 2)),
+				Config.getInt("OXFORD_LIMIT_MIN", 1),
+				Config.getInt("OXFORD_LIMIT_MAX", maxConnections),
+				Config.getInt("OXFORD_LIMIT_BACKOFF", 70) / 100.0);
+	}
+
+	public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.backoffRatio = backoffRatio;
+		this.limit = Math.max(this.minLimit, Math.min(initialLimit, this.maxLimit));
+	}
+
+	/**
+	 * @return true if the call may go to the service, in which case {@link #release(boolean)} must be called
+	 * 				once it completes; false if the limit is reached
+	 */
+	public synchronized boolean tryAcquire() {
+		if (inFlight >= (int) limit) {
+			return false;
+		}
+		inFlight++;
+		return true;
+	}
+
+	/**
+	 * @param overloaded true if the call timed out or was rate limited
+	 */
+	public synchronized void release(boolean overloaded) {
+		inFlight--;
+		if (overloaded) {
+			limit = Math.max(minLimit, limit * backoffRatio);
+		} else if (limit < maxLimit) {
+			limit = Math.min(maxLimit, limit + 1 / limit);
+		}
+	}
+
+	/**
+	 * Releases a call which tells nothing about the service, such as one cut short by the time left to its
+	 * caller, without changing the limit.
+	 */
+	public synchronized void release() {
+		inFlight--;
+	}
+
+	public synchronized int getLimit() {
+		return (int) limit;
+	}
+
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "ConcurrencyLimiter [limit=" + (int) limit + ", inFlight=" + inFlight + "]";
+	}
+
+}
@@ -0,0 +1,67 @@
+package org.fadil;
+
+/**
+ * Small helper to read the tunable settings of the skill. A setting is first looked up
+ * as a JVM system property and then as an environment variable (which is how settings
+ * are provided to an AWS Lambda function). When neither is present, the default is used.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class Config {
+
+	private Config() {
+	}
+
+	/**
+	 * @param name
+	 * @param defaultValue
+	 * @return the value of the setting, or the default value when it is not set
+	 */
+	public static String getString(String name, String defaultValue) {
+		String value = System.getProperty(name);
+		if (value == null || value.isEmpty()) {
+			value = System.getenv(name);
+		}
+		return value == null || value.isEmpty() ? defaultValue : value.trim();
+	}
+
+	/**
+	 * @param name
+	 * @param defaultValue
+	 * @return the value of the setting, or the default value when it is not set or not a number
+	 */
+	public static int getInt(String name, int defaultValue) {
+		return (int) getLong(name, defaultValue);
+	}
+
+	/**
+	 * @param name
+	 * @param defaultValue
+	 * @return the value of the setting, or the default value when it is not set or not a number
+	 */
+	public static long getLong(String name, long defaultValue) {
+		String value = getString(name, null);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * @param name
+	 * @param defaultValue
+	 * @return the value of the setting, or the default value when it is not set
+	 */
+	public static boolean getBoolean(String name, boolean defaultValue) {
+		String value = getString(name, null);
+		return value == null ? defaultValue : Boolean.parseBoolean(value);
+	}
+
+}
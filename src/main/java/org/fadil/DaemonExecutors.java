@@ -0,0 +1,42 @@
+package org.fadil;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Small helper to create the executors of the background work of the skill: a fixed number of daemon threads,
+ * which never keep the JVM alive, and a bounded queue, so that the work piling up under load is rejected rather
+ * than held in memory until it is useless.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class DaemonExecutors {
+
+	private DaemonExecutors() {
+	}
+
+	/**
+	 * @param name the prefix of the names of the threads
+	 * @param threads the number of threads
+	 * @param queueCapacity the number of tasks waiting for a thread, beyond which they are rejected
+	 * @return an executor throwing a RejectedExecutionException when its queue is full
+	 */
+	public static ExecutorService bounded(String name, int threads, int queueCapacity) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(queueCapacity),
+				runnable -> {
+					Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+}
@@ -0,0 +1,101 @@
+package org.fadil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.function.Consumer;
+
+/**
+ * This interface is the source of the {@link WordDetails} of the words missing from every cache tier. The skill
+ * answers from the Oxford service with {@link OxfordClient}; {@link FixtureDictionaryProvider} answers from
+ * recorded responses instead, so that the whole handler can be load tested without any call to the service.
+ * The HTTP path itself is load tested by pointing an OxfordClient to a {@link StubOxfordServer}.
+ *
+ * The bodies handed to the listeners are in the format of the Oxford entries endpoint. A provider looks the words
+ * up in English, and in the other languages of the skill through {@link #forLanguage(String)}.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public interface DictionaryProvider extends Closeable {
+
+	/**
+	 * Creates the provider selected by the setting OXFORD_PROVIDER: "oxford", the default, for the
+	 * {@link OxfordClient}, or "fixtures" for a {@link FixtureDictionaryProvider} reading the directory
+	 * OXFORD_FIXTURES_DIR and answering after OXFORD_FIXTURES_LATENCY_MILLIS.
+	 * @return the provider
+	 */
+	static DictionaryProvider fromConfig() {
+		String provider = Config.getString("OXFORD_PROVIDER", "oxford");
+		switch (provider) {
+
+			case "oxford":
+				return new OxfordClient();
+
+			case "fixtures":
+				String directory = Config.getString("OXFORD_FIXTURES_DIR", null);
+				if (directory == null) {
+					throw new IllegalStateException("OXFORD_FIXTURES_DIR is required by the fixtures provider");
+				}
+				try {
+					return new FixtureDictionaryProvider(FixtureDictionaryProvider.load(Paths.get(directory)),
+							Config.getLong("OXFORD_FIXTURES_LATENCY_MILLIS", 0));
+				} catch (IOException e) {
+					throw new IllegalStateException("Could not read the fixtures of " + directory, e);
+				}
+
+			default:
+				throw new IllegalStateException("Unknown OXFORD_PROVIDER " + provider);
+		}
+	}
+
+	/**
+	 * @param word the normalized word
+	 * @return WordDetails of the word, or {@link WordDetails#notFound()} if the word does not exist
+	 * @throws OxfordServiceException when no usable answer could be obtained
+	 */
+	default WordDetails fetch(String word) throws OxfordServiceException {
+		return fetch(word, null);
+	}
+
+	/**
+	 * @param word the normalized word
+	 * @param bodyListener called with the body of the answer once the WordDetails are parsed, or null
+	 * @return WordDetails of the word, or {@link WordDetails#notFound()} if the word does not exist
+	 * @throws OxfordServiceException when no usable answer could be obtained
+	 */
+	WordDetails fetch(String word, Consumer<byte[]> bodyListener) throws OxfordServiceException;
+
+	/**
+	 * Looks a word up within the time left to a request. A provider without timeouts of its own ignores it.
+	 * @param word the normalized word
+	 * @param bodyListener called with the body of the answer once the WordDetails are parsed, or null
+	 * @param timeoutMillis the time the lookup may take at most, retries included
+	 * @return WordDetails of the word, or {@link WordDetails#notFound()} if the word does not exist
+	 * @throws OxfordServiceException when no usable answer could be obtained in time
+	 */
+	default WordDetails fetch(String word, Consumer<byte[]> bodyListener, long timeoutMillis) throws OxfordServiceException {
+		return fetch(word, bodyListener);
+	}
+
+	/**
+	 * @param language the code of the dictionary in the Oxford service, such as "en" or "es"
+	 * @return the lookups in the dictionary of the language, this provider if it does not tell languages apart
+	 */
+	default DictionaryProvider forLanguage(String language) {
+		return this;
+	}
+
+	/**
+	 * Opens ahead of the first lookup what it would have to open, without looking any word up.
+	 */
+	default void prime() {
+	}
+
+	@Override
+	default void close() throws IOException {
+	}
+
+}
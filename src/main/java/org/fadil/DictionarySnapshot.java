@@ -0,0 +1,252 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class serves {@link WordDetails} from a precomputed, read-only snapshot file built by
+ * {@link DictionarySnapshotTool}. The file is memory-mapped: the words stay off the heap, in the page cache,
+ * and a lookup is a binary search comparing the key directly with the bytes of the file. Only the
+ * {@link WordDetails} of a word found is decoded.
+ *
+ * The file is made of a header, a table of the lexical categories, an index of fixed-size records sorted by
+ * the UTF-8 bytes of the normalized words, and a pool of strings referenced by the records:
+ * <pre>
+ * header      magic "OXSN", version, entry count, category count, offsets and length of the sections,
+ *             CRC32 of everything after the header
+ * categories  int pool offset per lexical category, each category being stored once
+ * index       per word: int pool offset of the word, int category id (-1 if none),
+ *             int pool offset of the definition (-1 if none), int pool offset of the examples (-1 if none)
+ * pool        strings as an unsigned short length followed by the UTF-8 bytes, lists of examples as an
+ *             unsigned short count followed by the pool offsets of the examples. Equal strings are stored once.
+ * </pre>
+ * The version and the checksum are validated when the file is opened.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class DictionarySnapshot {
+
+	static final int MAGIC = 0x4F58534E; // "OXSN"
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 40;
+	static final int RECORD_SIZE = 16;
+	static final int NONE = -1;
+
+	private static final Logger LOG = LoggerFactory.getLogger(DictionarySnapshot.class);
+
+	private final ByteBuffer buffer;
+	private final int entryCount;
+	private final int indexOffset;
+	private final int poolOffset;
+	private final String[] categories;
+
+	private DictionarySnapshot(ByteBuffer buffer, int entryCount, int indexOffset, int poolOffset, String[] categories) {
+		this.buffer = buffer;
+		this.entryCount = entryCount;
+		this.indexOffset = indexOffset;
+		this.poolOffset = poolOffset;
+		this.categories = categories;
+	}
+
+	/**
+	 * Opens the snapshot configured by the setting OXFORD_SNAPSHOT_PATH.
+	 * @return the snapshot, or null when no snapshot is configured or when the file is missing or invalid,
+	 * 				in which case the skill works without it
+	 */
+	public static DictionarySnapshot fromConfig() {
+		String path = Config.getString("OXFORD_SNAPSHOT_PATH", null);
+		if (path == null) {
+			return null;
+		}
+		try {
+			DictionarySnapshot snapshot = open(Paths.get(path));
+			LOG.info("Opened dictionary snapshot {} with {} words", path, snapshot.size());
+			return snapshot;
+		} catch (IOException e) {
+			LOG.warn("Ignoring dictionary snapshot {}", path, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Maps a snapshot file in memory and validates it.
+	 * @param path
+	 * @return the snapshot
+	 * @throws IOException if the file cannot be read, has another version or is corrupted
+	 */
+	public static DictionarySnapshot open(Path path) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Snapshot too large: " + channel.size() + " bytes");
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		return wrap(buffer);
+	}
+
+	/**
+	 * @param buffer the content of a snapshot file
+	 * @return the snapshot
+	 * @throws IOException if the content has another version or is corrupted
+	 */
+	static DictionarySnapshot wrap(ByteBuffer buffer) throws IOException {
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("Not a dictionary snapshot");
+		}
+		int version = buffer.getInt(4);
+		if (version != VERSION) {
+			throw new IOException("Unsupported snapshot version " + version + ", expected " + VERSION);
+		}
+		int entryCount = buffer.getInt(8);
+		int categoryCount = buffer.getInt(12);
+		int categoriesOffset = buffer.getInt(16);
+		int indexOffset = buffer.getInt(20);
+		int poolOffset = buffer.getInt(24);
+		int poolLength = buffer.getInt(28);
+		long checksum = buffer.getLong(32);
+
+		if (entryCount < 0 || categoryCount < 0 || categoriesOffset != HEADER_SIZE
+				|| indexOffset != categoriesOffset + 4 * categoryCount
+				|| poolOffset != indexOffset + RECORD_SIZE * entryCount
+				|| poolLength < 0 || (long) poolOffset + poolLength != buffer.capacity()) {
+			throw new IOException("Corrupted snapshot header");
+		}
+		if (checksum(buffer) != checksum) {
+			throw new IOException("Snapshot checksum mismatch");
+		}
+
+		DictionarySnapshot snapshot = new DictionarySnapshot(buffer, entryCount, indexOffset, poolOffset, new String[categoryCount]);
+		for (int i = 0; i < categoryCount; i++) {
+			snapshot.categories[i] = snapshot.readString(buffer.getInt(categoriesOffset + 4 * i)).intern();
+		}
+		return snapshot;
+	}
+
+	static long checksum(ByteBuffer buffer) {
+		ByteBuffer body = buffer.duplicate();
+		body.position(HEADER_SIZE);
+		CRC32 crc = new CRC32();
+		crc.update(body);
+		return crc.getValue();
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @return the details of the word, or null if the word is not in the snapshot
+	 */
+	public WordDetails get(String key) {
+		int record = find(key.getBytes(StandardCharsets.UTF_8));
+		if (record < 0) {
+			return null;
+		}
+		int categoryId = buffer.getInt(record + 4);
+		int definitionOffset = buffer.getInt(record + 8);
+		int examplesOffset = buffer.getInt(record + 12);
+		return new WordDetails(
+				categoryId == NONE ? Optional.empty() : Optional.of(categories[categoryId]),
+				definitionOffset == NONE ? Optional.empty() : Optional.of(readString(definitionOffset)),
+				examplesOffset == NONE ? Collections.emptyList() : readExamples(examplesOffset));
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @return true if the word is in the snapshot, without decoding its details
+	 */
+	public boolean contains(String key) {
+		return find(key.getBytes(StandardCharsets.UTF_8)) >= 0;
+	}
+
+	/**
+	 * @return the number of words in the snapshot
+	 */
+	public int size() {
+		return entryCount;
+	}
+
+	/**
+	 * @return the words of the snapshot, in the order of their UTF-8 bytes
+	 */
+	public List<String> keys() {
+		List<String> keys = new ArrayList<>(entryCount);
+		for (int i = 0; i < entryCount; i++) {
+			keys.add(readString(buffer.getInt(indexOffset + i * RECORD_SIZE)));
+		}
+		return keys;
+	}
+
+	/**
+	 * Binary search of the index.
+	 * @return the position of the record of the key in the buffer, or -1 if the key is not in the snapshot
+	 */
+	private int find(byte[] key) {
+		int low = 0;
+		int high = entryCount - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int record = indexOffset + middle * RECORD_SIZE;
+			int comparison = compare(poolOffset + buffer.getInt(record), key);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return record;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Compares the string stored at a position of the buffer with a key, as unsigned bytes.
+	 */
+	private int compare(int position, byte[] key) {
+		int length = buffer.getShort(position) & 0xFFFF;
+		int start = position + 2;
+		int common = Math.min(length, key.length);
+		for (int i = 0; i < common; i++) {
+			int difference = (buffer.get(start + i) & 0xFF) - (key[i] & 0xFF);
+			if (difference != 0) {
+				return difference;
+			}
+		}
+		return length - key.length;
+	}
+
+	private String readString(int offset) {
+		int position = poolOffset + offset;
+		byte[] bytes = new byte[buffer.getShort(position) & 0xFFFF];
+		ByteBuffer source = buffer.duplicate();
+		source.position(position + 2);
+		source.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private List<String> readExamples(int offset) {
+		int position = poolOffset + offset;
+		int count = buffer.getShort(position) & 0xFFFF;
+		List<String> examples = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			examples.add(readString(buffer.getInt(position + 2 + 4 * i)));
+		}
+		return examples;
+	}
+
+}
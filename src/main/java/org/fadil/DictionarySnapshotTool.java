@@ -0,0 +1,179 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class is the command line tool building the snapshot files served by {@link DictionarySnapshot}.
+ * <pre>
+ * java -cp oxford-alexa-skill-1.0.jar org.fadil.DictionarySnapshotTool --out dictionary.snap
+ *     --words speechAssets/customSlotTypes/WORDS [--queries query-log.tsv --top 10000] [--analytics 10000]
+ *     [--responses DIR]
+ * </pre>
+ * "--words" files list one word per line. "--queries" files list the logged queries as "word[TAB]count" lines,
+ * of which the "--top" most frequent are kept. "--analytics" adds the given number of words most asked for
+ * according to the {@link WordFrequencyStore} selected by OXFORD_ANALYTICS_FILE or OXFORD_ANALYTICS_TABLE.
+ * When "--responses" is given, the recorded Oxford response "DIR/{word}.json" of a word is ingested if it
+ * exists; every other word is fetched from the
+ * {@link DictionaryProvider} selected by OXFORD_PROVIDER, the Oxford service with the settings of
+ * {@link OxfordClient} by default. Words unknown to the Oxford service are left out of the snapshot.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class DictionarySnapshotTool {
+
+	private DictionarySnapshotTool() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		Path out = null;
+		Path responses = null;
+		List<Path> wordFiles = new ArrayList<>();
+		List<Path> queryFiles = new ArrayList<>();
+		int top = Integer.MAX_VALUE;
+		int analytics = 0;
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+
+				case "--out":
+					out = Paths.get(args[i + 1]);
+					break;
+
+				case "--words":
+					wordFiles.add(Paths.get(args[i + 1]));
+					break;
+
+				case "--queries":
+					queryFiles.add(Paths.get(args[i + 1]));
+					break;
+
+				case "--top":
+					top = Integer.parseInt(args[i + 1]);
+					break;
+
+				case "--analytics":
+					analytics = Integer.parseInt(args[i + 1]);
+					break;
+
+				case "--responses":
+					responses = Paths.get(args[i + 1]);
+					break;
+
+				default:
+					usage("Unknown option " + args[i]);
+			}
+		}
+		if (out == null || args.length % 2 != 0 || (wordFiles.isEmpty() && queryFiles.isEmpty() && analytics <= 0)) {
+			usage(null);
+		}
+
+		Set<String> words = new LinkedHashSet<>();
+		for (Path file : wordFiles) {
+			for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+				addWord(words, line);
+			}
+		}
+		for (Path file : queryFiles) {
+			for (String word : topQueries(file, top)) {
+				addWord(words, word);
+			}
+		}
+		if (analytics > 0) {
+			WordFrequencyStore store = WordFrequencyStore.fromConfig();
+			if (store == null) {
+				usage("--analytics requires OXFORD_ANALYTICS_FILE or OXFORD_ANALYTICS_TABLE");
+			}
+			for (String word : store.top(analytics)) {
+				addWord(words, word);
+			}
+		}
+
+		Map<String, WordDetails> details = new LinkedHashMap<>();
+		int ingested = 0;
+		int notFound = 0;
+		int failed = 0;
+		try (DictionaryProvider provider = DictionaryProvider.fromConfig()) {
+			for (String word : words) {
+				Path recorded = responses != null ? responses.resolve(word + ".json") : null;
+				try {
+					WordDetails wordDetails;
+					if (recorded != null && Files.isRegularFile(recorded)) {
+						wordDetails = OxfordResponseParser.parse(Files.readAllBytes(recorded));
+						ingested++;
+					} else {
+						wordDetails = provider.fetch(word);
+					}
+					if (wordDetails.isFound()) {
+						details.put(word, wordDetails);
+					} else {
+						notFound++;
+					}
+				} catch (OxfordServiceException | IOException e) {
+					System.err.println("Skipping " + word + ": " + e.getMessage());
+					failed++;
+				}
+			}
+		}
+
+		DictionarySnapshotWriter.write(details, out);
+		System.out.println("Wrote " + details.size() + " words (" + ingested + " ingested) to " + out + " ("
+				+ Files.size(out) + " bytes), " + notFound + " not found, " + failed + " failed");
+	}
+
+	private static void addWord(Set<String> words, String line) {
+		String word = WordCache.normalize(line);
+		if (word != null && !word.isEmpty()) {
+			words.add(word);
+		}
+	}
+
+	/**
+	 * @return the words of the most frequent queries of a "word[TAB]count" file
+	 */
+	private static List<String> topQueries(Path file, int top) throws IOException {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+			int tab = line.lastIndexOf('\t');
+			String word = WordCache.normalize(tab < 0 ? line : line.substring(0, tab));
+			long count = 1;
+			if (tab >= 0) {
+				try {
+					count = Long.parseLong(line.substring(tab + 1).trim());
+				} catch (NumberFormatException e) {
+					// counted once
+				}
+			}
+			if (word != null && !word.isEmpty()) {
+				counts.merge(word, count, Long::sum);
+			}
+		}
+		List<Map.Entry<String, Long>> sorted = new ArrayList<>(counts.entrySet());
+		sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+		List<String> words = new ArrayList<>();
+		for (int i = 0; i < sorted.size() && i < top; i++) {
+			words.add(sorted.get(i).getKey());
+		}
+		return words;
+	}
+
+	private static void usage(String error) {
+		if (error != null) {
+			System.err.println(error);
+		}
+		System.err.println("Usage: DictionarySnapshotTool --out FILE --words FILE... [--queries FILE... --top N] [--analytics N] [--responses DIR]");
+		System.exit(2);
+	}
+
+}
@@ -0,0 +1,173 @@
+package org.fadil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class writes the snapshot files read by {@link DictionarySnapshot}. The file is written next to its
+ * destination and moved in place, so that a running skill never maps a partially written file.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class DictionarySnapshotWriter {
+
+	private DictionarySnapshotWriter() {
+	}
+
+	/**
+	 * @param words the details of the words, by normalized word. Words unknown to the Oxford service are skipped.
+	 * @param path the snapshot file to write
+	 * @throws IOException if the file cannot be written
+	 * @throws IllegalArgumentException if a string is longer than 65535 bytes once encoded
+	 */
+	public static void write(Map<String, WordDetails> words, Path path) throws IOException {
+		byte[] content = toBytes(words);
+		Path directory = path.toAbsolutePath().getParent();
+		Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+		try {
+			Files.write(temporary, content);
+			Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	/**
+	 * @param words the details of the words, by normalized word. Words unknown to the Oxford service are skipped.
+	 * @return the content of the snapshot file
+	 */
+	public static byte[] toBytes(Map<String, WordDetails> words) throws IOException {
+		// the index is sorted by the unsigned UTF-8 bytes of the words, the order of the lookups
+		TreeMap<byte[], WordDetails> sorted = new TreeMap<>(DictionarySnapshotWriter::compare);
+		for (Map.Entry<String, WordDetails> entry : words.entrySet()) {
+			if (entry.getValue().isFound()) {
+				sorted.put(entry.getKey().getBytes(StandardCharsets.UTF_8), entry.getValue());
+			}
+		}
+
+		Pool pool = new Pool();
+		Map<String, Integer> categoryIds = new LinkedHashMap<>();
+		List<int[]> records = new ArrayList<>(sorted.size());
+		for (Map.Entry<byte[], WordDetails> entry : sorted.entrySet()) {
+			WordDetails details = entry.getValue();
+			int categoryId = DictionarySnapshot.NONE;
+			if (details.getLexicalCategory().isPresent()) {
+				categoryId = categoryIds.computeIfAbsent(details.getLexicalCategory().get(), category -> categoryIds.size());
+			}
+			records.add(new int[] {
+					pool.add(entry.getKey()),
+					categoryId,
+					details.getDefinition().isPresent() ? pool.add(details.getDefinition().get()) : DictionarySnapshot.NONE,
+					details.getExamples().isEmpty() ? DictionarySnapshot.NONE : pool.addList(details.getExamples())
+			});
+		}
+		int[] categoryOffsets = new int[categoryIds.size()];
+		for (Map.Entry<String, Integer> category : categoryIds.entrySet()) {
+			categoryOffsets[category.getValue()] = pool.add(category.getKey());
+		}
+
+		int categoriesOffset = DictionarySnapshot.HEADER_SIZE;
+		int indexOffset = categoriesOffset + 4 * categoryOffsets.length;
+		int poolOffset = indexOffset + DictionarySnapshot.RECORD_SIZE * records.size();
+		byte[] poolBytes = pool.toByteArray();
+
+		ByteBuffer buffer = ByteBuffer.allocate(poolOffset + poolBytes.length);
+		buffer.putInt(DictionarySnapshot.MAGIC)
+				.putInt(DictionarySnapshot.VERSION)
+				.putInt(records.size())
+				.putInt(categoryOffsets.length)
+				.putInt(categoriesOffset)
+				.putInt(indexOffset)
+				.putInt(poolOffset)
+				.putInt(poolBytes.length)
+				.putLong(0);
+		for (int categoryOffset : categoryOffsets) {
+			buffer.putInt(categoryOffset);
+		}
+		for (int[] record : records) {
+			for (int field : record) {
+				buffer.putInt(field);
+			}
+		}
+		buffer.put(poolBytes);
+		buffer.putLong(32, DictionarySnapshot.checksum(buffer));
+		return buffer.array();
+	}
+
+	private static int compare(byte[] left, byte[] right) {
+		int common = Math.min(left.length, right.length);
+		for (int i = 0; i < common; i++) {
+			int difference = (left[i] & 0xFF) - (right[i] & 0xFF);
+			if (difference != 0) {
+				return difference;
+			}
+		}
+		return left.length - right.length;
+	}
+
+	/**
+	 * The string pool being written. Equal strings are stored once.
+	 */
+	private static final class Pool {
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+		private final DataOutputStream output = new DataOutputStream(bytes);
+		private final Map<String, Integer> offsets = new HashMap<>();
+
+		private int add(String value) throws IOException {
+			Integer offset = offsets.get(value);
+			if (offset == null) {
+				offset = add(value.getBytes(StandardCharsets.UTF_8));
+				offsets.put(value, offset);
+			}
+			return offset;
+		}
+
+		private int add(byte[] value) throws IOException {
+			if (value.length > 0xFFFF) {
+				throw new IllegalArgumentException("String of " + value.length + " bytes is too long for a snapshot");
+			}
+			int offset = output.size();
+			output.writeShort(value.length);
+			output.write(value);
+			return offset;
+		}
+
+		private int addList(List<String> values) throws IOException {
+			if (values.size() > 0xFFFF) {
+				throw new IllegalArgumentException("List of " + values.size() + " strings is too long for a snapshot");
+			}
+			int[] elements = new int[values.size()];
+			for (int i = 0; i < elements.length; i++) {
+				elements[i] = add(values.get(i));
+			}
+			int offset = output.size();
+			output.writeShort(elements.length);
+			for (int element : elements) {
+				output.writeInt(element);
+			}
+			return offset;
+		}
+
+		private byte[] toByteArray() throws IOException {
+			output.flush();
+			return bytes.toByteArray();
+		}
+	}
+
+}
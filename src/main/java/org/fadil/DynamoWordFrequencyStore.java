@@ -0,0 +1,201 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeDefinition;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.CreateTableRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.KeySchemaElement;
+import com.amazonaws.services.dynamodbv2.model.KeyType;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughput;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import com.amazonaws.services.dynamodbv2.model.ScalarAttributeType;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import com.amazonaws.services.dynamodbv2.util.TableUtils;
+
+/**
+ * This class keeps the counts of the words asked for in a DynamoDB table shared by every Lambda container, one
+ * item per word with "word" as hash key and a "count" attribute. Counts are added with an atomic "ADD" update,
+ * so that the containers never overwrite each other's counts.
+ *
+ * The table grows with every word ever asked for, so the words most counted are not found by scanning it. An
+ * extra item, under the key "#top" which no normalized word takes, holds the counts of the
+ * OXFORD_ANALYTICS_TOP_WORDS words most counted, 1000 by default. Each flush merges the new counts of its words
+ * into that item, with a write conditioned on its version so that concurrent flushes do not lose each other's
+ * words, and {@link #top(int)} reads it with a single GetItem. A word only enters the item when it is flushed,
+ * so its count there may lag behind its own item, never ahead of it.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class DynamoWordFrequencyStore implements WordFrequencyStore {
+
+	private static final String ATTR_WORD = "word";
+	private static final String ATTR_COUNT = "count";
+	private static final String ATTR_WORDS = "words";
+	private static final String ATTR_VERSION = "version";
+	private static final String TOP_KEY = "#top";
+	private static final int TOP_UPDATE_ATTEMPTS = 3;
+
+	private final AmazonDynamoDB dynamoDB;
+	private final String tableName;
+	private final int topWords;
+
+	public DynamoWordFrequencyStore(AmazonDynamoDB dynamoDB, String tableName) {
+		this.dynamoDB = dynamoDB;
+		this.tableName = tableName;
+		this.topWords = Config.getInt("OXFORD_ANALYTICS_TOP_WORDS", 1000);
+	}
+
+	/**
+	 * Creates the table with "word" as hash key. Mostly useful with DynamoDB Local.
+	 */
+	public void createTableIfNotExists() {
+		CreateTableRequest request = new CreateTableRequest()
+				.withTableName(tableName)
+				.withKeySchema(new KeySchemaElement(ATTR_WORD, KeyType.HASH))
+				.withAttributeDefinitions(new AttributeDefinition(ATTR_WORD, ScalarAttributeType.S))
+				.withProvisionedThroughput(new ProvisionedThroughput(5L, 5L));
+		TableUtils.createTableIfNotExists(dynamoDB, request);
+		try {
+			TableUtils.waitUntilActive(dynamoDB, tableName);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void add(List<WordFrequencySketch.WordCount> counts) throws IOException {
+		Map<String, String> names = new HashMap<>();
+		names.put("#count", ATTR_COUNT);
+		Map<String, Long> totals = new HashMap<>();
+		try {
+			for (WordFrequencySketch.WordCount count : counts) {
+				Map<String, AttributeValue> values = new HashMap<>();
+				values.put(":count", new AttributeValue().withN(Long.toString(count.getCount())));
+				UpdateItemResult result = dynamoDB.updateItem(new UpdateItemRequest()
+						.withTableName(tableName)
+						.withKey(keyOf(count.getWord()))
+						.withUpdateExpression("ADD #count :count")
+						.withExpressionAttributeNames(names)
+						.withExpressionAttributeValues(values)
+						.withReturnValues(ReturnValue.UPDATED_NEW));
+				totals.put(count.getWord(), Long.parseLong(result.getAttributes().get(ATTR_COUNT).getN()));
+			}
+			updateTop(totals);
+		} catch (RuntimeException e) {
+			throw new IOException("Could not add " + counts.size() + " counts to table " + tableName, e);
+		}
+	}
+
+	/**
+	 * Merges the counts of the words just added into the item of the words most counted.
+	 * @param totals the stored counts of the words just added
+	 */
+	private void updateTop(Map<String, Long> totals) {
+		for (int attempt = 1;; attempt++) {
+			Map<String, AttributeValue> item = dynamoDB.getItem(new GetItemRequest()
+					.withTableName(tableName)
+					.withKey(keyOf(TOP_KEY))
+					.withConsistentRead(true)).getItem();
+			Map<String, Long> merged = countsOf(item);
+			for (Map.Entry<String, Long> total : totals.entrySet()) {
+				merged.merge(total.getKey(), total.getValue(), Math::max);
+			}
+			List<WordFrequencySketch.WordCount> top = sorted(merged);
+			Map<String, AttributeValue> words = new HashMap<>();
+			for (int i = 0; i < top.size() && i < topWords; i++) {
+				words.put(top.get(i).getWord(), new AttributeValue().withN(Long.toString(top.get(i).getCount())));
+			}
+
+			long version = item != null && item.containsKey(ATTR_VERSION)
+					? Long.parseLong(item.get(ATTR_VERSION).getN())
+					: 0;
+			Map<String, AttributeValue> newItem = keyOf(TOP_KEY);
+			newItem.put(ATTR_WORDS, new AttributeValue().withM(words));
+			newItem.put(ATTR_VERSION, new AttributeValue().withN(Long.toString(version + 1)));
+			Map<String, String> names = new HashMap<>();
+			PutItemRequest put = new PutItemRequest().withTableName(tableName).withItem(newItem);
+			if (item == null) {
+				names.put("#word", ATTR_WORD);
+				put.withConditionExpression("attribute_not_exists(#word)");
+			} else {
+				names.put("#version", ATTR_VERSION);
+				Map<String, AttributeValue> values = new HashMap<>();
+				values.put(":version", new AttributeValue().withN(Long.toString(version)));
+				put.withConditionExpression("#version = :version").withExpressionAttributeValues(values);
+			}
+			try {
+				dynamoDB.putItem(put.withExpressionAttributeNames(names));
+				return;
+			} catch (ConditionalCheckFailedException e) {
+				// another container flushed meanwhile, merge into its words
+				if (attempt == TOP_UPDATE_ATTEMPTS) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	@Override
+	public List<String> top(int limit) throws IOException {
+		Map<String, AttributeValue> item;
+		try {
+			item = dynamoDB.getItem(new GetItemRequest()
+					.withTableName(tableName)
+					.withKey(keyOf(TOP_KEY))).getItem();
+		} catch (RuntimeException e) {
+			throw new IOException("Could not read the top words from table " + tableName, e);
+		}
+
+		List<WordFrequencySketch.WordCount> counts = sorted(countsOf(item));
+		List<String> words = new ArrayList<>(Math.min(limit, counts.size()));
+		for (int i = 0; i < counts.size() && i < limit; i++) {
+			words.add(counts.get(i).getWord());
+		}
+		return words;
+	}
+
+	private static Map<String, Long> countsOf(Map<String, AttributeValue> topItem) {
+		Map<String, Long> counts = new HashMap<>();
+		AttributeValue words = topItem != null ? topItem.get(ATTR_WORDS) : null;
+		if (words != null && words.getM() != null) {
+			for (Map.Entry<String, AttributeValue> word : words.getM().entrySet()) {
+				counts.put(word.getKey(), Long.parseLong(word.getValue().getN()));
+			}
+		}
+		return counts;
+	}
+
+	private static List<WordFrequencySketch.WordCount> sorted(Map<String, Long> counts) {
+		List<WordFrequencySketch.WordCount> sorted = new ArrayList<>(counts.size());
+		for (Map.Entry<String, Long> count : counts.entrySet()) {
+			sorted.add(new WordFrequencySketch.WordCount(count.getKey(), count.getValue(), 0));
+		}
+		sorted.sort(null);
+		return sorted;
+	}
+
+	private static Map<String, AttributeValue> keyOf(String word) {
+		Map<String, AttributeValue> key = new HashMap<>();
+		key.put(ATTR_WORD, new AttributeValue(word));
+		return key;
+	}
+
+	@Override
+	public String toString() {
+		return "DynamoWordFrequencyStore [tableName=" + tableName + "]";
+	}
+
+}
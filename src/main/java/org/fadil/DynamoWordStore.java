@@ -0,0 +1,342 @@
+package org.fadil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+import com.amazonaws.services.dynamodbv2.model.AttributeDefinition;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.CreateTableRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.KeySchemaElement;
+import com.amazonaws.services.dynamodbv2.model.KeyType;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughput;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.ScalarAttributeType;
+import com.amazonaws.services.dynamodbv2.util.TableUtils;
+
+/**
+ * This class is the second tier cache of {@link WordDetails}, shared by every Lambda container
+ * through a DynamoDB table. A cold container first looks a word up in the table and only calls
+ * the Oxford service when the word is missing, so the Oxford service is called once per word for
+ * the whole fleet rather than once per container.
+ *
+ * Items carry an "expiresAt" attribute (epoch seconds) which should be configured as the TTL attribute
+ * of the table. Writes are done asynchronously and are conditional, so that a container never replaces
+ * an item which has not expired yet. Setting OXFORD_DYNAMO_ENDPOINT (for example to "http://localhost:8000")
+ * points the store at DynamoDB Local.
+ *
+ * The reads are on the path of the requests, so the client is bounded by timeouts of its own rather than the
+ * defaults of the SDK (a 50 seconds socket timeout, no request timeout and 3 retries), and each read is further
+ * bounded by the time left to its request.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class DynamoWordStore {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DynamoWordStore.class);
+
+	private static final String ATTR_WORD = "word";
+	private static final String ATTR_FOUND = "found";
+	private static final String ATTR_LEXICAL_CATEGORY = "lexicalCategory";
+	private static final String ATTR_DEFINITION = "definition";
+	private static final String ATTR_EXAMPLES = "examples";
+	private static final String ATTR_EXPIRES_AT = "expiresAt";
+	private static final int BATCH_GET_LIMIT = 100;
+	private static final int BATCH_GET_ATTEMPTS = 3;
+	private static final long BATCH_GET_BACKOFF_MILLIS = 25;
+
+	private final AmazonDynamoDB dynamoDB;
+	private final String tableName;
+	private final long ttlSeconds;
+	private final long negativeTtlSeconds;
+	private final ExecutorService writer;
+
+	public DynamoWordStore(AmazonDynamoDB dynamoDB, String tableName, long ttlSeconds, long negativeTtlSeconds) {
+		this.dynamoDB = dynamoDB;
+		this.tableName = tableName;
+		this.ttlSeconds = ttlSeconds;
+		this.negativeTtlSeconds = negativeTtlSeconds;
+		this.writer = DaemonExecutors.bounded("dynamo-word-store-writer", 1,
+				Config.getInt("OXFORD_DYNAMO_WRITE_QUEUE", 256));
+	}
+
+	/**
+	 * Creates the store from the settings OXFORD_DYNAMO_TABLE, OXFORD_DYNAMO_ENDPOINT, OXFORD_DYNAMO_REGION,
+	 * OXFORD_DYNAMO_TTL_SECONDS, OXFORD_DYNAMO_NEGATIVE_TTL_SECONDS and OXFORD_DYNAMO_CREATE_TABLE.
+	 * @return the store, or null when no table is configured
+	 */
+	public static DynamoWordStore fromConfig() {
+		String tableName = Config.getString("OXFORD_DYNAMO_TABLE", null);
+		if (tableName == null) {
+			return null;
+		}
+		DynamoWordStore store = new DynamoWordStore(dynamoDB(), tableName,
+				Config.getLong("OXFORD_DYNAMO_TTL_SECONDS", TimeUnit.DAYS.toSeconds(30)),
+				Config.getLong("OXFORD_DYNAMO_NEGATIVE_TTL_SECONDS", TimeUnit.DAYS.toSeconds(1)));
+		if (Config.getBoolean("OXFORD_DYNAMO_CREATE_TABLE", false)) {
+			store.createTableIfNotExists();
+		}
+		return store;
+	}
+
+	/**
+	 * @return a DynamoDB client using the settings OXFORD_DYNAMO_ENDPOINT, OXFORD_DYNAMO_REGION,
+	 * 				OXFORD_DYNAMO_CONNECT_TIMEOUT_MILLIS, OXFORD_DYNAMO_SOCKET_TIMEOUT_MILLIS,
+	 * 				OXFORD_DYNAMO_REQUEST_TIMEOUT_MILLIS, OXFORD_DYNAMO_EXECUTION_TIMEOUT_MILLIS and OXFORD_DYNAMO_MAX_RETRIES
+	 */
+	static AmazonDynamoDB dynamoDB() {
+		String endpoint = Config.getString("OXFORD_DYNAMO_ENDPOINT", null);
+		String region = Config.getString("OXFORD_DYNAMO_REGION", "us-east-1");
+
+		AmazonDynamoDBClientBuilder builder = AmazonDynamoDBClientBuilder.standard()
+				.withClientConfiguration(new ClientConfiguration()
+						.withConnectionTimeout(Config.getInt("OXFORD_DYNAMO_CONNECT_TIMEOUT_MILLIS", 500))
+						.withSocketTimeout(Config.getInt("OXFORD_DYNAMO_SOCKET_TIMEOUT_MILLIS", 1000))
+						.withRequestTimeout(Config.getInt("OXFORD_DYNAMO_REQUEST_TIMEOUT_MILLIS", 1000))
+						.withClientExecutionTimeout(Config.getInt("OXFORD_DYNAMO_EXECUTION_TIMEOUT_MILLIS", 2000))
+						.withMaxErrorRetry(Config.getInt("OXFORD_DYNAMO_MAX_RETRIES", 1)));
+		if (endpoint != null) {
+			builder.withEndpointConfiguration(new EndpointConfiguration(endpoint, region));
+		} else {
+			builder.withRegion(region);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates the table with "word" as hash key. Mostly useful with DynamoDB Local.
+	 */
+	public void createTableIfNotExists() {
+		CreateTableRequest request = new CreateTableRequest()
+				.withTableName(tableName)
+				.withKeySchema(new KeySchemaElement(ATTR_WORD, KeyType.HASH))
+				.withAttributeDefinitions(new AttributeDefinition(ATTR_WORD, ScalarAttributeType.S))
+				.withProvisionedThroughput(new ProvisionedThroughput(5L, 5L));
+		TableUtils.createTableIfNotExists(dynamoDB, request);
+		try {
+			TableUtils.waitUntilActive(dynamoDB, tableName);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @param timeoutMillis the time left to the request, retries included
+	 * @return the stored WordDetails, or null if the word is not stored, has expired or the table could not be
+	 * 				read in time
+	 */
+	public WordDetails get(String key, long timeoutMillis) {
+		if (timeoutMillis <= 0) {
+			return null;
+		}
+		try {
+			Map<String, AttributeValue> item = dynamoDB.getItem(withTimeout(new GetItemRequest()
+					.withTableName(tableName)
+					.withKey(keyOf(key)), timeoutMillis)).getItem();
+			return toWordDetails(item);
+		} catch (RuntimeException e) {
+			LOG.warn("Could not read word {} from table {}", key, tableName, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Reads several words at once with BatchGetItem. The keys left unprocessed by a throttled table are read
+	 * again up to {@value #BATCH_GET_ATTEMPTS} times in all, after a jittered exponential backoff, as advised
+	 * for BatchGetItem. No read is started, and no backoff slept, past the time given.
+	 * @param keys the normalized words
+	 * @param timeoutMillis the time left to the request, retries included
+	 * @return the WordDetails found in the table, by word. Missing and expired words, and the words which could
+	 * 				not be read in time, are not part of the map.
+	 */
+	public Map<String, WordDetails> getAll(Collection<String> keys, long timeoutMillis) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(timeoutMillis, TimeUnit.DAYS.toMillis(1)));
+		Map<String, WordDetails> found = new HashMap<>();
+		List<String> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+
+		for (int from = 0; from < distinctKeys.size(); from += BATCH_GET_LIMIT) {
+			List<Map<String, AttributeValue>> batch = new ArrayList<>();
+			for (String key : distinctKeys.subList(from, Math.min(from + BATCH_GET_LIMIT, distinctKeys.size()))) {
+				batch.add(keyOf(key));
+			}
+
+			Map<String, KeysAndAttributes> requestItems = new HashMap<>();
+			requestItems.put(tableName, new KeysAndAttributes().withKeys(batch));
+			try {
+				for (int attempt = 0; attempt < BATCH_GET_ATTEMPTS && !requestItems.isEmpty(); attempt++) {
+					long sleepMillis = attempt > 0 ? backoff(attempt) : 0;
+					if (sleepMillis >= millisUntil(deadline)) {
+						break;
+					}
+					Thread.sleep(sleepMillis);
+					BatchGetItemResult result = dynamoDB.batchGetItem(withTimeout(
+							new BatchGetItemRequest().withRequestItems(requestItems), millisUntil(deadline)));
+					List<Map<String, AttributeValue>> items = result.getResponses().get(tableName);
+					if (items != null) {
+						for (Map<String, AttributeValue> item : items) {
+							WordDetails details = toWordDetails(item);
+							if (details != null) {
+								found.put(item.get(ATTR_WORD).getS(), details);
+							}
+						}
+					}
+					requestItems = result.getUnprocessedKeys();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (RuntimeException e) {
+				LOG.warn("Could not batch read {} words from table {}", batch.size(), tableName, e);
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Exponential backoff with jitter, as for the retries of the Oxford service: half of the delay is fixed and
+	 * the other half is random.
+	 */
+	private static long backoff(int attempt) {
+		long delay = BATCH_GET_BACKOFF_MILLIS << (attempt - 1);
+		return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+	}
+
+	/**
+	 * Bounds a read by the time left to its request, when shorter than the timeouts of the client.
+	 */
+	private static <T extends AmazonWebServiceRequest> T withTimeout(T request, long timeoutMillis) {
+		if (timeoutMillis < Integer.MAX_VALUE) {
+			request.setSdkClientExecutionTimeout((int) Math.max(timeoutMillis, 1));
+		}
+		return request;
+	}
+
+	private static long millisUntil(long deadline) {
+		return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+	}
+
+	/**
+	 * Stores the word in the background. The write is skipped when the queue of pending writes is full,
+	 * and the item is only written if the table does not already hold an unexpired item for the word.
+	 * @param key the normalized word
+	 * @param details
+	 */
+	public void putAsync(String key, WordDetails details) {
+		if (key == null || details == null) {
+			return;
+		}
+		try {
+			writer.execute(() -> put(key, details));
+		} catch (RejectedExecutionException e) {
+			LOG.debug("Skipped write of word {}", key);
+		}
+	}
+
+	/**
+	 * Stops the writes in the background and shuts the DynamoDB client down. The writes still queued are dropped.
+	 */
+	public void close() {
+		writer.shutdownNow();
+		dynamoDB.shutdown();
+	}
+
+	private void put(String key, WordDetails details) {
+		long now = System.currentTimeMillis() / 1000;
+		Map<String, AttributeValue> item = keyOf(key);
+		item.put(ATTR_FOUND, new AttributeValue().withBOOL(details.isFound()));
+		item.put(ATTR_EXPIRES_AT, new AttributeValue().withN(Long.toString(
+				now + (details.isFound() ? ttlSeconds : negativeTtlSeconds))));
+		details.getLexicalCategory().ifPresent(value -> item.put(ATTR_LEXICAL_CATEGORY, new AttributeValue(value)));
+		details.getDefinition().ifPresent(value -> item.put(ATTR_DEFINITION, new AttributeValue(value)));
+		if (!details.getExamples().isEmpty()) {
+			List<AttributeValue> examples = new ArrayList<>();
+			for (String example : details.getExamples()) {
+				examples.add(new AttributeValue(example));
+			}
+			item.put(ATTR_EXAMPLES, new AttributeValue().withL(examples));
+		}
+
+		Map<String, AttributeValue> values = new HashMap<>();
+		values.put(":now", new AttributeValue().withN(Long.toString(now)));
+		try {
+			dynamoDB.putItem(new PutItemRequest()
+					.withTableName(tableName)
+					.withItem(item)
+					.withConditionExpression("attribute_not_exists(#word) OR #expiresAt < :now")
+					.withExpressionAttributeNames(expressionNames())
+					.withExpressionAttributeValues(values));
+		} catch (ConditionalCheckFailedException e) {
+			LOG.debug("Word {} was already stored by another container", key);
+		} catch (RuntimeException e) {
+			LOG.warn("Could not write word {} to table {}", key, tableName, e);
+		}
+	}
+
+	private static Map<String, String> expressionNames() {
+		Map<String, String> names = new HashMap<>();
+		names.put("#word", ATTR_WORD);
+		names.put("#expiresAt", ATTR_EXPIRES_AT);
+		return names;
+	}
+
+	private static Map<String, AttributeValue> keyOf(String key) {
+		Map<String, AttributeValue> item = new HashMap<>();
+		item.put(ATTR_WORD, new AttributeValue(key));
+		return item;
+	}
+
+	private static WordDetails toWordDetails(Map<String, AttributeValue> item) {
+		if (item == null || item.isEmpty()) {
+			return null;
+		}
+		AttributeValue expiresAt = item.get(ATTR_EXPIRES_AT);
+		if (expiresAt != null && Long.parseLong(expiresAt.getN()) < System.currentTimeMillis() / 1000) {
+			// DynamoDB deletes expired items lazily, so they have to be filtered out on read
+			return null;
+		}
+		AttributeValue found = item.get(ATTR_FOUND);
+		if (found != null && Boolean.FALSE.equals(found.getBOOL())) {
+			return WordDetails.notFound();
+		}
+
+		AttributeValue lexicalCategory = item.get(ATTR_LEXICAL_CATEGORY);
+		AttributeValue definition = item.get(ATTR_DEFINITION);
+		AttributeValue examplesValue = item.get(ATTR_EXAMPLES);
+		List<String> examples = new ArrayList<>();
+		if (examplesValue != null && examplesValue.getL() != null) {
+			for (AttributeValue example : examplesValue.getL()) {
+				examples.add(example.getS());
+			}
+		}
+		return new WordDetails(
+				Optional.ofNullable(lexicalCategory != null ? lexicalCategory.getS() : null),
+				Optional.ofNullable(definition != null ? definition.getS() : null),
+				examples);
+	}
+
+}
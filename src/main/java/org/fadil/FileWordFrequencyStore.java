@@ -0,0 +1,97 @@
+package org.fadil;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class keeps the counts of the words asked for in a local file of "word[TAB]count" lines, the format of
+ * the "--queries" files of the {@link DictionarySnapshotTool}. It is meant for tests and for the local server,
+ * where a single process writes the file: the counts are merged with those of the file and the file is
+ * replaced at once, so that a reader never sees it half written.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class FileWordFrequencyStore implements WordFrequencyStore {
+
+	private final Path file;
+
+	public FileWordFrequencyStore(Path file) {
+		this.file = file;
+	}
+
+	@Override
+	public synchronized void add(List<WordFrequencySketch.WordCount> counts) throws IOException {
+		Map<String, Long> merged = read();
+		for (WordFrequencySketch.WordCount count : counts) {
+			merged.merge(count.getWord(), count.getCount(), Long::sum);
+		}
+
+		Path absolute = file.toAbsolutePath();
+		Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, Long> entry : sorted(merged)) {
+					writer.write(entry.getKey());
+					writer.write('\t');
+					writer.write(Long.toString(entry.getValue()));
+					writer.newLine();
+				}
+			}
+			Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	@Override
+	public synchronized List<String> top(int limit) throws IOException {
+		List<Map.Entry<String, Long>> sorted = sorted(read());
+		List<String> words = new ArrayList<>(Math.min(limit, sorted.size()));
+		for (int i = 0; i < sorted.size() && i < limit; i++) {
+			words.add(sorted.get(i).getKey());
+		}
+		return words;
+	}
+
+	private Map<String, Long> read() throws IOException {
+		Map<String, Long> counts = new HashMap<>();
+		if (!Files.isRegularFile(file)) {
+			return counts;
+		}
+		for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+			int tab = line.lastIndexOf('\t');
+			if (tab <= 0) {
+				continue;
+			}
+			try {
+				counts.merge(line.substring(0, tab), Long.parseLong(line.substring(tab + 1).trim()), Long::sum);
+			} catch (NumberFormatException e) {
+				// not a count, skipped
+			}
+		}
+		return counts;
+	}
+
+	private static List<Map.Entry<String, Long>> sorted(Map<String, Long> counts) {
+		List<Map.Entry<String, Long>> sorted = new ArrayList<>(counts.entrySet());
+		sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.<String, Long>comparingByKey()));
+		return sorted;
+	}
+
+	@Override
+	public String toString() {
+		return "FileWordFrequencyStore [file=" + file + "]";
+	}
+
+}
@@ -0,0 +1,93 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * This class answers the lookups from recorded responses of the Oxford entries endpoint, held in memory,
+ * after an optional latency. A word without a recorded response is unknown. No call leaves the process, so
+ * the whole handler can be load tested without using the Oxford quota.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class FixtureDictionaryProvider implements DictionaryProvider {
+
+	private static final String EXTENSION = ".json";
+	private static final Metrics METRICS = Metrics.get();
+
+	private final Map<String, byte[]> responses;
+	private final long latencyMillis;
+
+	/**
+	 * @param responses the recorded response bodies by normalized word
+	 * @param latencyMillis how long every lookup takes, 0 to answer at once
+	 */
+	public FixtureDictionaryProvider(Map<String, byte[]> responses, long latencyMillis) {
+		this.responses = responses;
+		this.latencyMillis = latencyMillis;
+	}
+
+	/**
+	 * Reads the recorded responses of a directory, one "word.json" file per word.
+	 * @param directory
+	 * @return the recorded response bodies by normalized word
+	 * @throws IOException if the directory cannot be read
+	 */
+	public static Map<String, byte[]> load(Path directory) throws IOException {
+		Map<String, byte[]> responses = new HashMap<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				responses.put(WordCache.normalize(name.substring(0, name.length() - EXTENSION.length())),
+						Files.readAllBytes(file));
+			}
+		}
+		return Collections.unmodifiableMap(responses);
+	}
+
+	@Override
+	public WordDetails fetch(String word, Consumer<byte[]> bodyListener) throws OxfordServiceException {
+		if (latencyMillis > 0) {
+			try {
+				TimeUnit.MILLISECONDS.sleep(latencyMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OxfordServiceException(OxfordServiceException.Failure.TIMEOUT, "Interrupted looking up " + word, e);
+			}
+		}
+
+		byte[] body = responses.get(word);
+		if (body == null) {
+			return WordDetails.notFound();
+		}
+		long start = System.nanoTime();
+		WordDetails wordDetails;
+		try {
+			wordDetails = OxfordResponseParser.parse(body);
+		} catch (IOException e) {
+			throw new OxfordServiceException(OxfordServiceException.Failure.INVALID_RESPONSE,
+					"Could not parse the recorded response for " + word, e);
+		}
+		METRICS.recordPhase(Metrics.Phase.JSON_PARSE, System.nanoTime() - start);
+		if (bodyListener != null) {
+			bodyListener.accept(body);
+		}
+		return wordDetails;
+	}
+
+	@Override
+	public String toString() {
+		return "FixtureDictionaryProvider [words=" + responses.size() + ", latencyMillis=" + latencyMillis + "]";
+	}
+
+}
@@ -0,0 +1,191 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class stages the senses of a word beyond the first one while Alexa speaks the answer, so that a
+ * follow-up asking for more meanings is answered without calling the Oxford service.
+ *
+ * When the answer of a word comes from the Oxford service, its body is parsed again in the background for
+ * the other senses. When the answer comes from a cache tier, which only holds the first sense, the word is
+ * only fetched again in the background with OXFORD_PREFETCH_UPSTREAM set to true: off by default, since it
+ * would call the Oxford service for most of the words served from the caches, whether a follow-up comes or
+ * not. A follow-up finding nothing staged loads the senses itself, or has them fetched for the next request
+ * with {@link #fetchLater(String)}. Both run on a {@link KeyedExecutor}, once at a time per word, on a small
+ * pool of daemon threads with a bounded queue: when the budget is exhausted the prefetch is dropped, never the
+ * request waiting for it. The staged
+ * senses are kept in a bounded LRU map.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class FollowUpPrefetcher {
+
+	private static final Logger LOG = LoggerFactory.getLogger(FollowUpPrefetcher.class);
+
+	private final DictionaryProvider dictionaryProvider;
+	private final boolean enabled;
+	private final boolean upstream;
+	private final int maxSenses;
+	private final KeyedExecutor executor;
+	private final Map<String, List<WordSense>> staged;
+	private final AtomicLong stagedCount = new AtomicLong();
+
+	/**
+	 * Creates a prefetcher using the settings OXFORD_PREFETCH, OXFORD_PREFETCH_UPSTREAM, OXFORD_PREFETCH_THREADS,
+	 * OXFORD_PREFETCH_QUEUE, OXFORD_PREFETCH_MAX_SENSES and OXFORD_PREFETCH_MAX_ENTRIES.
+	 * @param dictionaryProvider the source of the words missing from every cache tier
+	 */
+	public FollowUpPrefetcher(DictionaryProvider dictionaryProvider) {
+		this(dictionaryProvider,
+				Config.getBoolean("OXFORD_PREFETCH", true),
+				Config.getBoolean("OXFORD_PREFETCH_UPSTREAM", false),
+				Config.getInt("OXFORD_PREFETCH_THREADS", 2),
+				Config.getInt("OXFORD_PREFETCH_QUEUE", 32),
+				Config.getInt("OXFORD_PREFETCH_MAX_SENSES", 5),
+				Config.getInt("OXFORD_PREFETCH_MAX_ENTRIES", 1000));
+	}
+
+	/**
+	 * @param dictionaryProvider the source of the words missing from every cache tier
+	 * @param enabled false to only load the senses when a follow-up asks for them
+	 * @param upstream true to also fetch again the words answered from a cache tier, for their other senses
+	 * @param threads the number of background threads
+	 * @param queueCapacity the number of prefetches waiting for a thread, beyond which they are dropped
+	 * @param maxSenses the number of senses kept per word, the first one included
+	 * @param maxEntries the number of words whose senses are kept
+	 */
+	public FollowUpPrefetcher(DictionaryProvider dictionaryProvider, boolean enabled, boolean upstream, int threads,
+			int queueCapacity, int maxSenses, int maxEntries) {
+		this.dictionaryProvider = dictionaryProvider;
+		this.enabled = enabled;
+		this.upstream = upstream;
+		this.maxSenses = maxSenses;
+		this.executor = new KeyedExecutor("follow-up-prefetcher", threads, queueCapacity);
+		this.staged = Collections.synchronizedMap(new LinkedHashMap<String, List<WordSense>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, List<WordSense>> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	/**
+	 * Stages the other senses of a word from the body of the answer of the Oxford service, in the background.
+	 * @param key the normalized word
+	 * @param body the body of the answer
+	 */
+	public void onFetched(String key, byte[] body) {
+		if (enabled) {
+			executor.execute(key, () -> stage(key, body));
+		}
+	}
+
+	/**
+	 * Fetches and stages the other senses of a word answered from a cache tier in the background, when
+	 * OXFORD_PREFETCH_UPSTREAM is set, unless they are already staged or being staged.
+	 * @param key the normalized word
+	 */
+	public void prefetch(String key) {
+		if (upstream) {
+			fetchLater(key);
+		}
+	}
+
+	/**
+	 * Fetches and stages the other senses of a word in the background for a follow-up which asked for them
+	 * without the time to wait, unless they are already staged or being staged.
+	 * @param key the normalized word
+	 */
+	public void fetchLater(String key) {
+		if (enabled && !staged.containsKey(key)) {
+			executor.execute(key, () -> {
+				try {
+					dictionaryProvider.fetch(key, body -> stage(key, body));
+				} catch (OxfordServiceException e) {
+					LOG.debug("prefetchFailed word={} failure={}", key, e.getFailure());
+				}
+			});
+		}
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @return the staged senses of the word after the first one, or null if they are not staged
+	 */
+	public List<WordSense> getStaged(String key) {
+		return staged.get(key);
+	}
+
+	/**
+	 * Fetches and stages the other senses of a word on the calling thread, when a follow-up finds nothing staged.
+	 * @param key the normalized word
+	 * @param timeoutMillis the time left to the request
+	 * @return the senses of the word after the first one
+	 * @throws OxfordServiceException when the Oxford service could not give an answer in time
+	 */
+	public List<WordSense> loadNow(String key, long timeoutMillis) throws OxfordServiceException {
+		dictionaryProvider.fetch(key, body -> stage(key, body), timeoutMillis);
+		List<WordSense> senses = staged.get(key);
+		return senses != null ? senses : Collections.emptyList();
+	}
+
+	private void stage(String key, byte[] body) {
+		try {
+			List<WordSense> senses = OxfordResponseParser.parseSenses(body, maxSenses);
+			// the first sense is the one of the WordDetails already spoken
+			staged.put(key, senses.isEmpty() ? senses : Collections.unmodifiableList(senses.subList(1, senses.size())));
+			stagedCount.incrementAndGet();
+		} catch (IOException e) {
+			LOG.debug("prefetchUnparsable word={}", key, e);
+		}
+	}
+
+	/**
+	 * @return false when the senses are only loaded by the follow-ups, so the bodies of the answers are not needed
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the number of words whose senses were staged
+	 */
+	public long getStagedCount() {
+		return stagedCount.get();
+	}
+
+	/**
+	 * @return the number of prefetches dropped because the queue was full
+	 */
+	public long getDroppedCount() {
+		return executor.getDroppedCount();
+	}
+
+	/**
+	 * Stops the background threads. The prefetches still queued are dropped.
+	 */
+	public void close() {
+		executor.close();
+	}
+
+	@Override
+	public String toString() {
+		return "FollowUpPrefetcher [stagedCount=" + stagedCount + ", droppedCount=" + executor.getDroppedCount()
+				+ ", pendingCount=" + executor.getPendingCount() + ", stagedSize=" + staged.size() + "]";
+	}
+
+}
@@ -0,0 +1,326 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.codec.language.DoubleMetaphone;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class resolves misrecognized values of the "Word" slot to a known lemma, so that a slightly wrong
+ * spelling is answered with the word meant rather than with "not found". Since the lemmas indexed are only
+ * those of OXFORD_LEMMAS_PATH and of the {@link DictionarySnapshot}, a word is only resolved once the word
+ * as heard is known not to exist: a real word missing from the lemmas is never replaced.
+ *
+ * Two in-memory indexes are built over a list of lemmas, ordered from the most to the least preferred:
+ * <ul>
+ * <li>a symmetric deletion index (as in SymSpell): every lemma is indexed under itself and under each of
+ * its single-character deletions. Probing it with the query and its own single-character deletions finds
+ * the lemmas within one insertion, deletion, substitution or transposition, and some within two.
+ * Entries are 64 bit hashes in an open addressing table, so no string is allocated to build or probe it,
+ * and every candidate is verified with an edit distance.</li>
+ * <li>a phonetic index from the Double Metaphone codes of the lemmas, for the words which sound like a
+ * lemma but are spelled differently.</li>
+ * </ul>
+ * A candidate at one edit is accepted, one at two edits only if it also sounds like the query, and a
+ * phonetic candidate only if it is not too far in spelling. Ties go to the candidate which sounds like
+ * the query, then to the most preferred lemma.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class FuzzyWordIndex {
+
+	/** Longer words are only resolved when they are lemmas themselves. */
+	static final int MAX_LENGTH = 40;
+	/** Shorter words have too many neighbours to be corrected by deletions. */
+	private static final int MIN_DELETE_LENGTH = 3;
+	private static final int EMPTY = -1;
+
+	private static final Logger LOG = LoggerFactory.getLogger(FuzzyWordIndex.class);
+	private static final DoubleMetaphone METAPHONE = new DoubleMetaphone();
+
+	private final String[] lemmas;
+	private final long[] hashes;
+	private final int[] ids;
+	private final int mask;
+	private final Map<String, int[]> phonetic;
+
+	private FuzzyWordIndex(String[] lemmas) {
+		this.lemmas = lemmas;
+
+		int entries = 0;
+		for (String lemma : lemmas) {
+			entries += 1 + (lemma.length() >= MIN_DELETE_LENGTH ? lemma.length() : 0);
+		}
+		int capacity = Integer.highestOneBit(Math.max(entries, 8) * 2 - 1) << 1;
+		this.hashes = new long[capacity];
+		this.ids = new int[capacity];
+		this.mask = capacity - 1;
+		Arrays.fill(ids, EMPTY);
+
+		Map<String, int[]> codes = new HashMap<>();
+		for (int id = 0; id < lemmas.length; id++) {
+			String lemma = lemmas[id];
+			insert(hash(lemma, -1), id);
+			if (lemma.length() >= MIN_DELETE_LENGTH) {
+				for (int skip = 0; skip < lemma.length(); skip++) {
+					insert(hash(lemma, skip), id);
+				}
+			}
+			String primary = METAPHONE.doubleMetaphone(lemma);
+			String alternate = METAPHONE.doubleMetaphone(lemma, true);
+			addCode(codes, primary, id);
+			if (alternate != null && !alternate.equals(primary)) {
+				addCode(codes, alternate, id);
+			}
+		}
+		this.phonetic = codes;
+	}
+
+	/**
+	 * @param lemmas the normalized lemmas, from the most to the least preferred. Duplicates and lemmas
+	 * 				longer than {@value #MAX_LENGTH} characters are ignored.
+	 * @return the index
+	 */
+	public static FuzzyWordIndex build(Collection<String> lemmas) {
+		Set<String> unique = new LinkedHashSet<>();
+		for (String lemma : lemmas) {
+			if (lemma != null && !lemma.isEmpty() && lemma.length() <= MAX_LENGTH) {
+				unique.add(lemma);
+			}
+		}
+		return new FuzzyWordIndex(unique.toArray(new String[0]));
+	}
+
+	/**
+	 * Builds the index over the lemmas of the file configured by OXFORD_LEMMAS_PATH (one lemma per line,
+	 * the most frequent first) followed by the words of the {@link DictionarySnapshot}. OXFORD_FUZZY
+	 * set to false disables the resolution.
+	 * @param snapshot the snapshot, or null
+	 * @return the index, or null when disabled or when there is no lemma
+	 */
+	public static FuzzyWordIndex fromConfig(DictionarySnapshot snapshot) {
+		if (!Config.getBoolean("OXFORD_FUZZY", true)) {
+			return null;
+		}
+		Set<String> lemmas = new LinkedHashSet<>();
+		String path = Config.getString("OXFORD_LEMMAS_PATH", null);
+		if (path != null) {
+			try {
+				for (String line : Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8)) {
+					lemmas.add(WordCache.normalize(line));
+				}
+			} catch (IOException e) {
+				LOG.warn("Ignoring lemma list {}", path, e);
+			}
+		}
+		if (snapshot != null) {
+			lemmas.addAll(snapshot.keys());
+		}
+		if (lemmas.isEmpty()) {
+			return null;
+		}
+		long start = System.nanoTime();
+		FuzzyWordIndex index = build(lemmas);
+		LOG.info("Indexed {} lemmas in {} ms", index.size(), (System.nanoTime() - start) / 1000000);
+		return index;
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @return the key itself if it is a lemma, the closest lemma if one is close enough, null otherwise
+	 */
+	public String resolve(String key) {
+		if (key == null || key.isEmpty() || key.length() > MAX_LENGTH) {
+			return null;
+		}
+		if (isLemma(key)) {
+			return key;
+		}
+
+		String primary = METAPHONE.doubleMetaphone(key);
+		String alternate = METAPHONE.doubleMetaphone(key, true);
+		Candidate best = new Candidate();
+		probe(key, hash(key, -1), primary, alternate, best);
+		if (key.length() >= MIN_DELETE_LENGTH - 1) {
+			for (int skip = 0; skip < key.length(); skip++) {
+				probe(key, hash(key, skip), primary, alternate, best);
+			}
+		}
+		if (best.distance == 1 || (best.distance == 2 && best.soundsAlike)) {
+			return lemmas[best.id];
+		}
+
+		int maxPhoneticDistance = Math.max(2, key.length() / 2);
+		Candidate phoneticBest = new Candidate();
+		for (String code : new String[] { primary, alternate }) {
+			int[] candidates = code != null ? phonetic.get(code) : null;
+			if (candidates != null) {
+				for (int id : candidates) {
+					consider(phoneticBest, id, distance(key, lemmas[id], maxPhoneticDistance), true);
+				}
+			}
+		}
+		return phoneticBest.distance <= maxPhoneticDistance ? lemmas[phoneticBest.id] : null;
+	}
+
+	/**
+	 * @return the number of lemmas
+	 */
+	public int size() {
+		return lemmas.length;
+	}
+
+	private boolean isLemma(String key) {
+		long hash = hash(key, -1);
+		for (int slot = (int) hash & mask; ids[slot] != EMPTY; slot = (slot + 1) & mask) {
+			if (hashes[slot] == hash && lemmas[ids[slot]].equals(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void probe(String key, long hash, String primary, String alternate, Candidate best) {
+		for (int slot = (int) hash & mask; ids[slot] != EMPTY; slot = (slot + 1) & mask) {
+			if (hashes[slot] == hash) {
+				int id = ids[slot];
+				int distance = distance(key, lemmas[id], 2);
+				if (distance <= 2) {
+					consider(best, id, distance, soundsAlike(id, primary, alternate));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Keeps the closest candidate, then the one which sounds like the key, then the most preferred.
+	 */
+	private void consider(Candidate best, int id, int distance, boolean soundsAlike) {
+		boolean better = distance < best.distance
+				|| (distance == best.distance && soundsAlike && !best.soundsAlike)
+				|| (distance == best.distance && soundsAlike == best.soundsAlike && id < best.id);
+		if (better) {
+			best.id = id;
+			best.distance = distance;
+			best.soundsAlike = soundsAlike;
+		}
+	}
+
+	private boolean soundsAlike(int id, String primary, String alternate) {
+		for (String code : new String[] { primary, alternate }) {
+			int[] candidates = code != null ? phonetic.get(code) : null;
+			if (candidates != null && Arrays.binarySearch(candidates, id) >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void insert(long hash, int id) {
+		int slot = (int) hash & mask;
+		while (ids[slot] != EMPTY) {
+			if (hashes[slot] == hash && ids[slot] == id) {
+				return; // the same deletion of the same lemma, e.g. both "l" of "hello"
+			}
+			slot = (slot + 1) & mask;
+		}
+		hashes[slot] = hash;
+		ids[slot] = id;
+	}
+
+	private static void addCode(Map<String, int[]> codes, String code, int id) {
+		if (code == null || code.isEmpty()) {
+			return;
+		}
+		int[] ids = codes.get(code);
+		if (ids == null) {
+			codes.put(code, new int[] { id });
+		} else {
+			// ids are added in increasing order, so the arrays stay sorted
+			int[] grown = Arrays.copyOf(ids, ids.length + 1);
+			grown[ids.length] = id;
+			codes.put(code, grown);
+		}
+	}
+
+	/**
+	 * 64 bit FNV-1a hash of a word without one of its characters.
+	 * @param skip the index of the character to leave out, or -1 to hash the whole word
+	 */
+	static long hash(String word, int skip) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < word.length(); i++) {
+			if (i != skip) {
+				hash ^= word.charAt(i);
+				hash *= 0x100000001b3L;
+			}
+		}
+		// spreads the low bits used to pick the slot
+		return hash ^ (hash >>> 32);
+	}
+
+	/**
+	 * Optimal string alignment distance: insertions, deletions, substitutions and adjacent transpositions.
+	 * @return the distance, or max + 1 as soon as the distance is known to exceed max
+	 */
+	static int distance(String left, String right, int max) {
+		int leftLength = left.length();
+		int rightLength = right.length();
+		if (Math.abs(leftLength - rightLength) > max) {
+			return max + 1;
+		}
+		int[] previousPrevious = new int[rightLength + 1];
+		int[] previous = new int[rightLength + 1];
+		int[] current = new int[rightLength + 1];
+		for (int j = 0; j <= rightLength; j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= leftLength; i++) {
+			current[0] = i;
+			int rowMin = i;
+			char leftChar = left.charAt(i - 1);
+			for (int j = 1; j <= rightLength; j++) {
+				char rightChar = right.charAt(j - 1);
+				int cost = leftChar == rightChar ? 0 : 1;
+				int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+				if (i > 1 && j > 1 && leftChar == right.charAt(j - 2) && left.charAt(i - 2) == rightChar) {
+					value = Math.min(value, previousPrevious[j - 2] + 1);
+				}
+				current[j] = value;
+				rowMin = Math.min(rowMin, value);
+			}
+			if (rowMin > max) {
+				return max + 1;
+			}
+			int[] recycled = previousPrevious;
+			previousPrevious = previous;
+			previous = current;
+			current = recycled;
+		}
+		return Math.min(previous[rightLength], max + 1);
+	}
+
+	/**
+	 * The best candidate found so far.
+	 */
+	private static final class Candidate {
+
+		private int id = EMPTY;
+		private int distance = Integer.MAX_VALUE;
+		private boolean soundsAlike;
+	}
+
+}
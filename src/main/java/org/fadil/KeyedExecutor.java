@@ -0,0 +1,79 @@
+package org.fadil;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class runs background tasks keyed by word on a bounded executor of {@link DaemonExecutors}, at most one
+ * at a time per word: a task submitted while another task of the same word is queued or running is skipped,
+ * however many requests ask for it. When the queue is full the task is dropped and counted, and the word can
+ * be submitted again by a later request.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class KeyedExecutor {
+
+	private final ExecutorService executor;
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	/**
+	 * @param name the prefix of the names of the threads
+	 * @param threads the number of background threads
+	 * @param queueCapacity the number of tasks waiting for a thread, beyond which they are dropped
+	 */
+	public KeyedExecutor(String name, int threads, int queueCapacity) {
+		this.executor = DaemonExecutors.bounded(name, threads, queueCapacity);
+	}
+
+	/**
+	 * Runs a task in the background, unless a task of the same key is already queued or running.
+	 * @param key the key of the task, such as a normalized word
+	 * @param task the task
+	 */
+	public void execute(String key, Runnable task) {
+		if (!pending.add(key)) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					task.run();
+				} finally {
+					pending.remove(key);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			pending.remove(key);
+			droppedCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * @return the number of tasks dropped because the queue was full
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * @return the number of tasks queued or running
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Stops the background threads. The tasks still queued are dropped.
+	 */
+	public void close() {
+		executor.shutdownNow();
+	}
+
+}
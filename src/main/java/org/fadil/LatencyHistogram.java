@@ -0,0 +1,159 @@
+package org.fadil;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class is a lock-free histogram of latencies, recorded in microseconds into log-linear buckets:
+ * every power of two is split into 8 buckets, so any recorded value is known within 12.5%.
+ * Recording a value does not allocate and only updates a few atomic counters, so it can be used on
+ * the request path of every call.
+ *
+ * Percentiles are read from a {@link Snapshot}, and the difference of two snapshots gives the
+ * distribution of the values recorded in between.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	/** Values above 2^38 microseconds (about 3 days) are recorded in the last bucket. */
+	private static final int MAX_EXPONENT = 38;
+	private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * @param nanos the latency, in nanoseconds
+	 */
+	public void record(long nanos) {
+		long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+		counts.incrementAndGet(bucketOf(micros));
+		count.incrementAndGet();
+		sum.addAndGet(micros);
+		long current;
+		while (micros > (current = max.get()) && !max.compareAndSet(current, micros)) {
+			// another thread raised the maximum concurrently
+		}
+	}
+
+	/**
+	 * @return the values recorded so far. The snapshot is not atomic: values recorded while it is
+	 * 				taken may be partially included.
+	 */
+	public Snapshot snapshot() {
+		long[] values = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			values[i] = counts.get(i);
+		}
+		return new Snapshot(values, count.get(), sum.get(), max.get());
+	}
+
+	static int bucketOf(long micros) {
+		if (micros < SUB_BUCKET_COUNT) {
+			return (int) micros;
+		}
+		int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (Math.min(micros >>> shift, 2L * SUB_BUCKET_COUNT - 1) & (SUB_BUCKET_COUNT - 1));
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * @return the highest value recorded in a bucket
+	 */
+	static long upperBoundOf(int bucket) {
+		if (bucket < SUB_BUCKET_COUNT) {
+			return bucket;
+		}
+		int shift = bucket / SUB_BUCKET_COUNT - 1;
+		long lowerBound = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+		return lowerBound + (1L << shift) - 1;
+	}
+
+	/**
+	 * Immutable copy of the counters of a {@link LatencyHistogram}. All values are in microseconds.
+	 */
+	public static final class Snapshot {
+
+		private final long[] counts;
+		private final long count;
+		private final long sum;
+		private final long max;
+
+		private Snapshot(long[] counts, long count, long sum, long max) {
+			this.counts = counts;
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		/**
+		 * @param previous an earlier snapshot of the same histogram
+		 * @return the values recorded since the previous snapshot. The maximum cannot be
+		 * 				subtracted and is bounded by the highest non empty bucket instead.
+		 */
+		public Snapshot minus(Snapshot previous) {
+			long[] values = new long[counts.length];
+			int highest = -1;
+			for (int i = 0; i < values.length; i++) {
+				values[i] = counts[i] - previous.counts[i];
+				if (values[i] > 0) {
+					highest = i;
+				}
+			}
+			long intervalMax = highest < 0 ? 0 : Math.min(max, upperBoundOf(highest));
+			return new Snapshot(values, count - previous.count, sum - previous.sum, intervalMax);
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getMax() {
+			return max;
+		}
+
+		public double getMean() {
+			return count == 0 ? 0 : (double) sum / count;
+		}
+
+		/**
+		 * @param percentile between 0 and 100
+		 * @return the value below which the given percentage of the values fall, or 0 if no value was recorded
+		 */
+		public long getValueAtPercentile(double percentile) {
+			long total = 0;
+			for (long bucketCount : counts) {
+				total += bucketCount;
+			}
+			if (total == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100) / 100));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return Math.min(upperBoundOf(i), max);
+				}
+			}
+			return max;
+		}
+
+		@Override
+		public String toString() {
+			return "Snapshot [count=" + count + ", mean=" + Math.round(getMean()) + ", p50=" + getValueAtPercentile(50)
+					+ ", p99=" + getValueAtPercentile(99) + ", max=" + max + "]";
+		}
+	}
+
+}
@@ -0,0 +1,135 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * This filter bounds the number of requests handled at the same time by the skill endpoint. A request which
+ * cannot start immediately waits for a free slot, but only if fewer than "maxQueued" requests are already
+ * waiting and at most "queueTimeoutMillis". Otherwise the request is shed with a 503 answer, so that an
+ * overloaded instance answers quickly instead of letting every request miss the Alexa deadline.
+ *
+ * Before reaching the filter, a request has waited in the job queue of the server for a thread. When the jobs of
+ * the server are wrapped with {@link #timed(Runnable)}, that wait counts too: a request which already waited
+ * "queueTimeoutMillis" and finds no free slot is shed at once, which drains the job queue quickly, and its
+ * {@link RequestDeadline} starts when it was queued, so that the time it waited is taken from the time left to
+ * answer it.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class LoadSheddingFilter implements Filter {
+
+	private static final ThreadLocal<Long> QUEUED_AT = new ThreadLocal<>();
+
+	private final Semaphore permits;
+	private final int maxQueued;
+	private final long queueTimeoutMillis;
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicLong shedCount = new AtomicLong();
+
+	public LoadSheddingFilter(int maxConcurrent, int maxQueued, long queueTimeoutMillis) {
+		this.permits = new Semaphore(maxConcurrent);
+		this.maxQueued = maxQueued;
+		this.queueTimeoutMillis = queueTimeoutMillis;
+	}
+
+	@Override
+	public void init(FilterConfig filterConfig) throws ServletException {
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		// the next request read by the same job, on a kept alive connection, was not waiting meanwhile
+		Long queuedAt = QUEUED_AT.get();
+		QUEUED_AT.remove();
+		long receivedAt = queuedAt != null ? queuedAt : System.nanoTime();
+		RequestDeadline.set(RequestDeadline.since(receivedAt));
+		try {
+			if (!permits.tryAcquire() && !awaitPermit(receivedAt)) {
+				shedCount.incrementAndGet();
+				HttpServletResponse httpResponse = (HttpServletResponse) response;
+				httpResponse.setHeader("Retry-After", "1");
+				httpResponse.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+				return;
+			}
+			try {
+				chain.doFilter(request, response);
+			} finally {
+				permits.release();
+			}
+		} finally {
+			RequestDeadline.clear();
+		}
+	}
+
+	private boolean awaitPermit(long receivedAt) {
+		long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis) - (System.nanoTime() - receivedAt);
+		if (timeoutNanos <= 0) {
+			return false;
+		}
+		if (queued.incrementAndGet() > maxQueued) {
+			queued.decrementAndGet();
+			return false;
+		}
+		try {
+			return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			queued.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Remembers when a job of the server was queued for a thread, so that a request read by the job is charged
+	 * for the time it waited.
+	 * @param job the job of the server
+	 * @return the job, to queue now
+	 */
+	public static Runnable timed(Runnable job) {
+		long queuedAt = System.nanoTime();
+		return () -> {
+			QUEUED_AT.set(queuedAt);
+			try {
+				job.run();
+			} finally {
+				QUEUED_AT.remove();
+			}
+		};
+	}
+
+	/**
+	 * @return the number of requests answered with 503 since the start
+	 */
+	public long getShedCount() {
+		return shedCount.get();
+	}
+
+	/**
+	 * @return the number of requests currently waiting for a slot
+	 */
+	public int getQueuedCount() {
+		return queued.get();
+	}
+
+	@Override
+	public void destroy() {
+	}
+
+}
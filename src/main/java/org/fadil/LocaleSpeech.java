@@ -0,0 +1,203 @@
+package org.fadil;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import com.amazon.speech.speechlet.SpeechletResponse;
+import com.amazon.speech.ui.Reprompt;
+
+/**
+ * This class holds the speech of the skill in the language of a locale, read once from the "speech" resource
+ * bundle of the locale (speech.properties for English, speech_es.properties for Spanish...). The responses
+ * which never change are built once and shared by every request of the locale, the others are rendered from
+ * {@link ResponseTemplates.Template}s compiled once. A locale without a bundle of its own is spoken in English.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class LocaleSpeech {
+
+	private static final String BUNDLE = "speech";
+	private static final String VOWELS = "AEIOUaeiou";
+
+	private final ResponseTemplates.Template correctedSpeech;
+	private final ResponseTemplates.Template categorySpeech;
+	private final ResponseTemplates.Template uncategorizedSpeech;
+	private final ResponseTemplates.Template definitionSpeech;
+	private final ResponseTemplates.Template undefinedSpeech;
+	private final ResponseTemplates.Template examplesOfferSpeech;
+	private final ResponseTemplates.Template exampleSpeech;
+	private final ResponseTemplates.Template senseCategorySpeech;
+	private final ResponseTemplates.Template senseSpeech;
+	private final ResponseTemplates.Template senseExampleSpeech;
+	private final ResponseTemplates.Template batchFailureSpeech;
+	private final ResponseTemplates.Template noOtherSenseSpeech;
+	private final String vowelArticle;
+	private final String consonantArticle;
+
+	private final Reprompt examplesReprompt;
+	private final SpeechletResponse welcomeResponse;
+	private final SpeechletResponse exitResponse;
+	private final SpeechletResponse unsupportedResponse;
+	private final SpeechletResponse noSlotResponse;
+	private final Map<OxfordServiceException.Failure, SpeechletResponse> failureResponses;
+
+	private LocaleSpeech(ResourceBundle bundle) {
+		correctedSpeech = ResponseTemplates.Template.compile(bundle.getString("corrected"));
+		categorySpeech = ResponseTemplates.Template.compile(bundle.getString("category"));
+		uncategorizedSpeech = ResponseTemplates.Template.compile(bundle.getString("uncategorized"));
+		definitionSpeech = ResponseTemplates.Template.compile(bundle.getString("definition"));
+		undefinedSpeech = ResponseTemplates.Template.compile(bundle.getString("undefined"));
+		examplesOfferSpeech = ResponseTemplates.Template.compile(bundle.getString("examples.offer"));
+		exampleSpeech = ResponseTemplates.Template.compile(bundle.getString("example"));
+		senseCategorySpeech = ResponseTemplates.Template.compile(bundle.getString("sense.category"));
+		senseSpeech = ResponseTemplates.Template.compile(bundle.getString("sense"));
+		senseExampleSpeech = ResponseTemplates.Template.compile(bundle.getString("sense.example"));
+		batchFailureSpeech = ResponseTemplates.Template.compile(bundle.getString("batch.failure"));
+		noOtherSenseSpeech = ResponseTemplates.Template.compile(bundle.getString("noOtherSense"));
+		vowelArticle = bundle.getString("article.vowel");
+		consonantArticle = bundle.getString("article.consonant");
+
+		examplesReprompt = ResponseTemplates.reprompt(bundle.getString("examples.reprompt"));
+		String prompt = bundle.getString("welcome.prompt");
+		welcomeResponse = ResponseTemplates.askSsml("<speak>" + bundle.getString("welcome") + prompt + "</speak>",
+				ResponseTemplates.reprompt(bundle.getString("welcome.reprompt") + prompt));
+		exitResponse = ResponseTemplates.tell(bundle.getString("exit"));
+		unsupportedResponse = ResponseTemplates.ask(bundle.getString("unsupported"),
+				ResponseTemplates.reprompt(bundle.getString("unsupported.reprompt")));
+		noSlotResponse = ResponseTemplates.ask(bundle.getString("noSlot"),
+				ResponseTemplates.reprompt(bundle.getString("noSlot.reprompt")));
+
+		Map<OxfordServiceException.Failure, SpeechletResponse> responses = new EnumMap<>(OxfordServiceException.Failure.class);
+		for (OxfordServiceException.Failure failure : OxfordServiceException.Failure.values()) {
+			responses.put(failure, ResponseTemplates.tell(bundle.getString(failureKey(failure))));
+		}
+		failureResponses = Collections.unmodifiableMap(responses);
+	}
+
+	/**
+	 * @param locale
+	 * @return the speech of the language of the locale, English if the skill does not speak it
+	 */
+	public static LocaleSpeech forLocale(Locale locale) {
+		// without the fallback to the default locale of the JVM, which would depend on the host
+		return new LocaleSpeech(ResourceBundle.getBundle(BUNDLE, locale,
+				ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES)));
+	}
+
+	private static String failureKey(OxfordServiceException.Failure failure) {
+		switch (failure) {
+
+			case TIMEOUT:
+				return "failure.timeout";
+
+			case RATE_LIMITED:
+				return "failure.rateLimited";
+
+			default:
+				return "failure.other";
+		}
+	}
+
+	/**
+	 * @param text
+	 * @return the indefinite article to put before the text
+	 */
+	public String article(String text) {
+		return !text.isEmpty() && VOWELS.indexOf(text.charAt(0)) >= 0 ? vowelArticle : consonantArticle;
+	}
+
+	/** "I think you meant {word}. " */
+	public ResponseTemplates.Template getCorrectedSpeech() {
+		return correctedSpeech;
+	}
+
+	/** "{word} is {article} {category}. " */
+	public ResponseTemplates.Template getCategorySpeech() {
+		return categorySpeech;
+	}
+
+	/** "{word} has not been classified in any lexical category. " */
+	public ResponseTemplates.Template getUncategorizedSpeech() {
+		return uncategorizedSpeech;
+	}
+
+	/** " {word} means {definition}." */
+	public ResponseTemplates.Template getDefinitionSpeech() {
+		return definitionSpeech;
+	}
+
+	/** " Sorry. I could not find any definition for the word {word}." */
+	public ResponseTemplates.Template getUndefinedSpeech() {
+		return undefinedSpeech;
+	}
+
+	/** " I've found some examples for {word}. Would you like to hear them?" */
+	public ResponseTemplates.Template getExamplesOfferSpeech() {
+		return examplesOfferSpeech;
+	}
+
+	/** "Example {number}: {example}. " */
+	public ResponseTemplates.Template getExampleSpeech() {
+		return exampleSpeech;
+	}
+
+	/** "As {article} {category}, " */
+	public ResponseTemplates.Template getSenseCategorySpeech() {
+		return senseCategorySpeech;
+	}
+
+	/** "{word} can also mean {definition}." */
+	public ResponseTemplates.Template getSenseSpeech() {
+		return senseSpeech;
+	}
+
+	/** " For example: {example}." */
+	public ResponseTemplates.Template getSenseExampleSpeech() {
+		return senseExampleSpeech;
+	}
+
+	/** "Sorry, I could not look up {word} in time." */
+	public ResponseTemplates.Template getBatchFailureSpeech() {
+		return batchFailureSpeech;
+	}
+
+	/** "Sorry. I could not find any other meaning for the word {word}." */
+	public ResponseTemplates.Template getNoOtherSenseSpeech() {
+		return noOtherSenseSpeech;
+	}
+
+	public Reprompt getExamplesReprompt() {
+		return examplesReprompt;
+	}
+
+	public SpeechletResponse getWelcomeResponse() {
+		return welcomeResponse;
+	}
+
+	public SpeechletResponse getExitResponse() {
+		return exitResponse;
+	}
+
+	public SpeechletResponse getUnsupportedResponse() {
+		return unsupportedResponse;
+	}
+
+	public SpeechletResponse getNoSlotResponse() {
+		return noSlotResponse;
+	}
+
+	/**
+	 * @param failure
+	 * @return the response explaining the failure to the user
+	 */
+	public SpeechletResponse getFailureResponse(OxfordServiceException.Failure failure) {
+		return failureResponses.get(failure);
+	}
+
+}
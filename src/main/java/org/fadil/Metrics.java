@@ -0,0 +1,425 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * This class holds the metrics of the skill for the whole process: a {@link LatencyHistogram} per intent
+ * and per phase of a lookup, the status codes answered by the Oxford service, the outcomes of the lookups
+ * in the caches and the {@link RequestDeadline.Tier} serving the requests. Recording does not allocate, so the
+ * hot path is instrumented permanently instead of relying on DEBUG logging.
+ *
+ * The metrics can be read in process with {@link #snapshot()}. They are also written periodically as
+ * CloudWatch Embedded Metric Format (EMF) log lines, one per intent, one per phase and one for the counters,
+ * each covering the values recorded since the previous emission. As a frozen Lambda container runs no
+ * background thread, the emission is triggered by the requests themselves through {@link #emitIfDue()}.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class Metrics {
+
+	/**
+	 * The timed phases of a request.
+	 */
+	public enum Phase {
+		/** From sending a request to the Oxford service until its answer is received. */
+		UPSTREAM_HTTP,
+		/** Parsing the body of an Oxford response into {@link WordDetails}. */
+		JSON_PARSE,
+		/** Reading a word from the {@link DynamoWordStore}. */
+		STORE_LOOKUP,
+		/** Building the speech and the {@code SpeechletResponse} from the {@link WordDetails}. */
+		SPEECH_BUILDING,
+		/** Serializing the response envelope, when the handler performs it itself. */
+		RESPONSE_SERIALIZATION
+	}
+
+	/**
+	 * Where the answer of a lookup came from.
+	 */
+	public enum CacheOutcome {
+		SNAPSHOT_HIT, HIT, NEGATIVE_HIT, STORE_HIT, UPSTREAM, COALESCED,
+		/** A follow-up request answered from the senses staged by the {@link FollowUpPrefetcher}. */
+		PREFETCH_HIT,
+		/** A follow-up request which had to call the Oxford service. */
+		PREFETCH_MISS,
+		/** An expired entry of the {@link WordCache} served while it is refreshed in the background. */
+		STALE_HIT,
+		/** A word missing from the caches which the request had no time left to look up, loaded in the background. */
+		DEFERRED
+	}
+
+	/**
+	 * The decisions taken to protect the Oxford service, counted per interval.
+	 */
+	public enum UpstreamEvent {
+		/** The {@link CircuitBreaker} opened, or opened again after a failed probe. */
+		BREAKER_OPENED,
+		/** The {@link CircuitBreaker} let a probe through. */
+		BREAKER_HALF_OPENED,
+		/** The {@link CircuitBreaker} closed after a successful probe. */
+		BREAKER_CLOSED,
+		/** A call failed fast because the {@link CircuitBreaker} was open. */
+		BREAKER_REJECTED,
+		/** A call failed fast because the {@link ConcurrencyLimiter} was full. */
+		LIMIT_REJECTED
+	}
+
+	/** Status recorded when the Oxford service gave no answer at all (timeout, connection failure). */
+	public static final int NO_RESPONSE = 0;
+
+	private static final Logger LOG = LoggerFactory.getLogger(Metrics.class);
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final int MAX_INTENTS = 64;
+	private static final String OTHER_INTENT = "Other";
+	private static final Metrics INSTANCE = new Metrics();
+
+	private final ConcurrentHashMap<String, LatencyHistogram> intents = new ConcurrentHashMap<>();
+	private final EnumMap<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+	private final AtomicLongArray upstreamStatuses = new AtomicLongArray(600);
+	private final AtomicLongArray cacheOutcomes = new AtomicLongArray(CacheOutcome.values().length);
+	private final AtomicLongArray upstreamEvents = new AtomicLongArray(UpstreamEvent.values().length);
+	private final AtomicLongArray servingTiers = new AtomicLongArray(RequestDeadline.Tier.values().length);
+
+	private final String namespace;
+	private final boolean emfEnabled;
+	private final long emitIntervalNanos;
+	private final AtomicLong nextEmitAt;
+	private Snapshot lastEmitted;
+
+	/**
+	 * Creates the metrics using the settings OXFORD_METRICS_NAMESPACE, OXFORD_METRICS_EMF and
+	 * OXFORD_METRICS_INTERVAL_SECONDS.
+	 */
+	public Metrics() {
+		this(Config.getString("OXFORD_METRICS_NAMESPACE", "WordPooler"),
+				Config.getBoolean("OXFORD_METRICS_EMF", true),
+				Config.getLong("OXFORD_METRICS_INTERVAL_SECONDS", 60));
+	}
+
+	public Metrics(String namespace, boolean emfEnabled, long emitIntervalSeconds) {
+		this.namespace = namespace;
+		this.emfEnabled = emfEnabled;
+		this.emitIntervalNanos = TimeUnit.SECONDS.toNanos(emitIntervalSeconds);
+		this.nextEmitAt = new AtomicLong(System.nanoTime() + emitIntervalNanos);
+		for (Phase phase : Phase.values()) {
+			phases.put(phase, new LatencyHistogram());
+		}
+		this.lastEmitted = snapshot();
+	}
+
+	/**
+	 * @return the metrics shared by the whole process
+	 */
+	public static Metrics get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @param intentName the name of the intent, or of the request type for requests without intent
+	 * @param nanos the time spent handling the request
+	 */
+	public void recordIntent(String intentName, long nanos) {
+		LatencyHistogram histogram = intents.get(intentName);
+		if (histogram == null) {
+			// intent names come from the interaction model, the bound only protects against unexpected ones
+			String name = intents.size() < MAX_INTENTS ? intentName : OTHER_INTENT;
+			histogram = intents.computeIfAbsent(name, n -> new LatencyHistogram());
+		}
+		histogram.record(nanos);
+	}
+
+	public void recordPhase(Phase phase, long nanos) {
+		phases.get(phase).record(nanos);
+	}
+
+	/**
+	 * @param status the HTTP status answered by the Oxford service, or {@link #NO_RESPONSE}
+	 */
+	public void recordUpstreamStatus(int status) {
+		upstreamStatuses.incrementAndGet(status >= 0 && status < upstreamStatuses.length() ? status : NO_RESPONSE);
+	}
+
+	public void recordCacheOutcome(CacheOutcome outcome) {
+		cacheOutcomes.incrementAndGet(outcome.ordinal());
+	}
+
+	public void recordUpstreamEvent(UpstreamEvent event) {
+		upstreamEvents.incrementAndGet(event.ordinal());
+	}
+
+	/**
+	 * @param tier the lowest tier a stage of an intent request ran at
+	 */
+	public void recordServingTier(RequestDeadline.Tier tier) {
+		servingTiers.incrementAndGet(tier.ordinal());
+	}
+
+	/**
+	 * @return the values recorded since the process started
+	 */
+	public Snapshot snapshot() {
+		Map<String, LatencyHistogram.Snapshot> intentSnapshots = new TreeMap<>();
+		for (Map.Entry<String, LatencyHistogram> entry : intents.entrySet()) {
+			intentSnapshots.put(entry.getKey(), entry.getValue().snapshot());
+		}
+		Map<Phase, LatencyHistogram.Snapshot> phaseSnapshots = new EnumMap<>(Phase.class);
+		for (Map.Entry<Phase, LatencyHistogram> entry : phases.entrySet()) {
+			phaseSnapshots.put(entry.getKey(), entry.getValue().snapshot());
+		}
+		Map<Integer, Long> statuses = new TreeMap<>();
+		for (int status = 0; status < upstreamStatuses.length(); status++) {
+			long count = upstreamStatuses.get(status);
+			if (count > 0) {
+				statuses.put(status, count);
+			}
+		}
+		Map<CacheOutcome, Long> outcomes = new EnumMap<>(CacheOutcome.class);
+		for (CacheOutcome outcome : CacheOutcome.values()) {
+			outcomes.put(outcome, cacheOutcomes.get(outcome.ordinal()));
+		}
+		Map<UpstreamEvent, Long> events = new EnumMap<>(UpstreamEvent.class);
+		for (UpstreamEvent event : UpstreamEvent.values()) {
+			events.put(event, upstreamEvents.get(event.ordinal()));
+		}
+		Map<RequestDeadline.Tier, Long> tiers = new EnumMap<>(RequestDeadline.Tier.class);
+		for (RequestDeadline.Tier tier : RequestDeadline.Tier.values()) {
+			tiers.put(tier, servingTiers.get(tier.ordinal()));
+		}
+		return new Snapshot(intentSnapshots, phaseSnapshots, statuses, outcomes, events, tiers);
+	}
+
+	/**
+	 * Writes the EMF lines if the emission interval has elapsed. Only one of the concurrent callers emits.
+	 */
+	public void emitIfDue() {
+		long next = nextEmitAt.get();
+		if (emfEnabled && System.nanoTime() - next >= 0 && nextEmitAt.compareAndSet(next, System.nanoTime() + emitIntervalNanos)) {
+			emit();
+		}
+	}
+
+	/**
+	 * Starts a new emission interval without writing the values recorded so far, such as the requests
+	 * made to prime the container. They remain counted in {@link #snapshot()}.
+	 */
+	public synchronized void resetInterval() {
+		lastEmitted = snapshot();
+		nextEmitAt.set(System.nanoTime() + emitIntervalNanos);
+	}
+
+	/**
+	 * Writes the EMF lines of the values recorded since the previous emission.
+	 */
+	public synchronized void emit() {
+		Snapshot current = snapshot();
+		Snapshot interval = current.minus(lastEmitted);
+		lastEmitted = current;
+		long timestamp = System.currentTimeMillis();
+		try {
+			for (Map.Entry<String, LatencyHistogram.Snapshot> entry : interval.getIntentLatencies().entrySet()) {
+				if (entry.getValue().getCount() > 0) {
+					LOG.info(latencyLine(timestamp, "Intent", entry.getKey(), entry.getValue()));
+				}
+			}
+			for (Map.Entry<Phase, LatencyHistogram.Snapshot> entry : interval.getPhaseLatencies().entrySet()) {
+				if (entry.getValue().getCount() > 0) {
+					LOG.info(latencyLine(timestamp, "Phase", entry.getKey().name(), entry.getValue()));
+				}
+			}
+			LOG.info(counterLine(timestamp, interval));
+		} catch (IOException e) {
+			LOG.warn("Could not write the metrics", e);
+		}
+	}
+
+	private String latencyLine(long timestamp, String dimension, String value, LatencyHistogram.Snapshot latency)
+			throws IOException {
+		Map<String, Number> metrics = new LinkedHashMap<>();
+		metrics.put("Count", latency.getCount());
+		metrics.put("LatencyP50", latency.getValueAtPercentile(50));
+		metrics.put("LatencyP90", latency.getValueAtPercentile(90));
+		metrics.put("LatencyP99", latency.getValueAtPercentile(99));
+		metrics.put("LatencyMax", latency.getMax());
+		return line(timestamp, dimension, value, metrics);
+	}
+
+	private String counterLine(long timestamp, Snapshot interval) throws IOException {
+		Map<String, Number> metrics = new LinkedHashMap<>();
+		for (Map.Entry<Integer, Long> entry : interval.getUpstreamStatuses().entrySet()) {
+			metrics.put(entry.getKey() == NO_RESPONSE ? "UpstreamNoResponse" : "UpstreamStatus" + entry.getKey(), entry.getValue());
+		}
+		for (Map.Entry<CacheOutcome, Long> entry : interval.getCacheOutcomes().entrySet()) {
+			metrics.put("Cache" + toCamelCase(entry.getKey().name()), entry.getValue());
+		}
+		for (Map.Entry<UpstreamEvent, Long> entry : interval.getUpstreamEvents().entrySet()) {
+			metrics.put("Upstream" + toCamelCase(entry.getKey().name()), entry.getValue());
+		}
+		for (Map.Entry<RequestDeadline.Tier, Long> entry : interval.getServingTiers().entrySet()) {
+			metrics.put("Tier" + toCamelCase(entry.getKey().name()), entry.getValue());
+		}
+		return line(timestamp, null, null, metrics);
+	}
+
+	private String line(long timestamp, String dimension, String value, Map<String, Number> metrics) throws IOException {
+		StringWriter writer = new StringWriter(256);
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+			generator.writeStartObject();
+			generator.writeObjectFieldStart("_aws");
+			generator.writeNumberField("Timestamp", timestamp);
+			generator.writeArrayFieldStart("CloudWatchMetrics");
+			generator.writeStartObject();
+			generator.writeStringField("Namespace", namespace);
+			generator.writeArrayFieldStart("Dimensions");
+			generator.writeStartArray();
+			if (dimension != null) {
+				generator.writeString(dimension);
+			}
+			generator.writeEndArray();
+			generator.writeEndArray();
+			generator.writeArrayFieldStart("Metrics");
+			for (String name : metrics.keySet()) {
+				generator.writeStartObject();
+				generator.writeStringField("Name", name);
+				generator.writeStringField("Unit", name.startsWith("Latency") ? "Microseconds" : "Count");
+				generator.writeEndObject();
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+			generator.writeEndArray();
+			generator.writeEndObject();
+			if (dimension != null) {
+				generator.writeStringField(dimension, value);
+			}
+			for (Map.Entry<String, Number> entry : metrics.entrySet()) {
+				generator.writeNumberField(entry.getKey(), entry.getValue().longValue());
+			}
+			generator.writeEndObject();
+		}
+		return writer.toString();
+	}
+
+	private static String toCamelCase(String constant) {
+		StringBuilder builder = new StringBuilder(constant.length());
+		for (String part : constant.split("_")) {
+			builder.append(part.charAt(0)).append(part.substring(1).toLowerCase());
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Immutable copy of the {@link Metrics}. Latencies are in microseconds.
+	 */
+	public static final class Snapshot {
+
+		private final Map<String, LatencyHistogram.Snapshot> intentLatencies;
+		private final Map<Phase, LatencyHistogram.Snapshot> phaseLatencies;
+		private final Map<Integer, Long> upstreamStatuses;
+		private final Map<CacheOutcome, Long> cacheOutcomes;
+		private final Map<UpstreamEvent, Long> upstreamEvents;
+		private final Map<RequestDeadline.Tier, Long> servingTiers;
+
+		private Snapshot(Map<String, LatencyHistogram.Snapshot> intentLatencies,
+				Map<Phase, LatencyHistogram.Snapshot> phaseLatencies, Map<Integer, Long> upstreamStatuses,
+				Map<CacheOutcome, Long> cacheOutcomes, Map<UpstreamEvent, Long> upstreamEvents,
+				Map<RequestDeadline.Tier, Long> servingTiers) {
+			this.intentLatencies = Collections.unmodifiableMap(intentLatencies);
+			this.phaseLatencies = Collections.unmodifiableMap(phaseLatencies);
+			this.upstreamStatuses = Collections.unmodifiableMap(upstreamStatuses);
+			this.cacheOutcomes = Collections.unmodifiableMap(cacheOutcomes);
+			this.upstreamEvents = Collections.unmodifiableMap(upstreamEvents);
+			this.servingTiers = Collections.unmodifiableMap(servingTiers);
+		}
+
+		/**
+		 * @param previous an earlier snapshot of the same metrics
+		 * @return the values recorded since the previous snapshot
+		 */
+		public Snapshot minus(Snapshot previous) {
+			Map<String, LatencyHistogram.Snapshot> intents = new TreeMap<>();
+			for (Map.Entry<String, LatencyHistogram.Snapshot> entry : intentLatencies.entrySet()) {
+				LatencyHistogram.Snapshot before = previous.intentLatencies.get(entry.getKey());
+				intents.put(entry.getKey(), before == null ? entry.getValue() : entry.getValue().minus(before));
+			}
+			Map<Phase, LatencyHistogram.Snapshot> phases = new EnumMap<>(Phase.class);
+			for (Map.Entry<Phase, LatencyHistogram.Snapshot> entry : phaseLatencies.entrySet()) {
+				phases.put(entry.getKey(), entry.getValue().minus(previous.phaseLatencies.get(entry.getKey())));
+			}
+			Map<Integer, Long> statuses = new TreeMap<>();
+			for (Map.Entry<Integer, Long> entry : upstreamStatuses.entrySet()) {
+				long count = entry.getValue() - previous.upstreamStatuses.getOrDefault(entry.getKey(), 0L);
+				if (count > 0) {
+					statuses.put(entry.getKey(), count);
+				}
+			}
+			Map<CacheOutcome, Long> outcomes = new EnumMap<>(CacheOutcome.class);
+			for (Map.Entry<CacheOutcome, Long> entry : cacheOutcomes.entrySet()) {
+				outcomes.put(entry.getKey(), entry.getValue() - previous.cacheOutcomes.get(entry.getKey()));
+			}
+			Map<UpstreamEvent, Long> events = new EnumMap<>(UpstreamEvent.class);
+			for (Map.Entry<UpstreamEvent, Long> entry : upstreamEvents.entrySet()) {
+				events.put(entry.getKey(), entry.getValue() - previous.upstreamEvents.get(entry.getKey()));
+			}
+			Map<RequestDeadline.Tier, Long> tiers = new EnumMap<>(RequestDeadline.Tier.class);
+			for (Map.Entry<RequestDeadline.Tier, Long> entry : servingTiers.entrySet()) {
+				tiers.put(entry.getKey(), entry.getValue() - previous.servingTiers.get(entry.getKey()));
+			}
+			return new Snapshot(intents, phases, statuses, outcomes, events, tiers);
+		}
+
+		public Map<String, LatencyHistogram.Snapshot> getIntentLatencies() {
+			return intentLatencies;
+		}
+
+		public Map<Phase, LatencyHistogram.Snapshot> getPhaseLatencies() {
+			return phaseLatencies;
+		}
+
+		/**
+		 * @return the number of answers per HTTP status, {@link Metrics#NO_RESPONSE} counting the calls without answer
+		 */
+		public Map<Integer, Long> getUpstreamStatuses() {
+			return upstreamStatuses;
+		}
+
+		public Map<CacheOutcome, Long> getCacheOutcomes() {
+			return cacheOutcomes;
+		}
+
+		public Map<UpstreamEvent, Long> getUpstreamEvents() {
+			return upstreamEvents;
+		}
+
+		/**
+		 * @return the number of intent requests per tier serving them
+		 */
+		public Map<RequestDeadline.Tier, Long> getServingTiers() {
+			return servingTiers;
+		}
+
+		@Override
+		public String toString() {
+			return "Snapshot [intentLatencies=" + intentLatencies + ", phaseLatencies=" + phaseLatencies
+					+ ", upstreamStatuses=" + upstreamStatuses + ", cacheOutcomes=" + cacheOutcomes + ", servingTiers=" + servingTiers + "]";
+		}
+	}
+
+}
@@ -0,0 +1,468 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.http.Header;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * This class is the HTTP client of the Oxford service, the {@link DictionaryProvider} of the skill. It is
+ * meant to be built once per container and shared by every request: connections are pooled and kept alive
+ * between calls, so the TLS handshake is only paid by the first lookup of a warm container.
+ *
+ * Every call is bounded by a connect timeout, a read timeout and a total deadline which includes retries. A
+ * caller with less time left than the total deadline shortens it with {@link #fetch(String, Consumer, long)}.
+ * Answers 429 and 5xx are retried a bounded number of times with a jittered exponential backoff.
+ * Responses are requested gzip compressed and decompressed transparently.
+ *
+ * Calls fail fast, without reaching the service, while the {@link CircuitBreaker} is open or when the
+ * {@link ConcurrencyLimiter} has as many calls in flight as the service currently sustains. Only the timeouts
+ * of attempts given the full connect or read timeout count against the service: waiting too long for a pooled
+ * connection, or an attempt cut short by the time left to the caller, counts as neither a success nor a failure.
+ *
+ * The endpoint names the dictionary with a "{language}" placeholder. The client looks the words up in English;
+ * {@link #forLanguage(String)} gives the lookups in another dictionary, sharing the connections, the circuit
+ * breaker and the concurrency limiter of the client. An endpoint without the placeholder is used as is for
+ * every language.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class OxfordClient implements DictionaryProvider {
+
+	private static final Logger LOG = LoggerFactory.getLogger(OxfordClient.class);
+	private static final String LANGUAGE_PLACEHOLDER = "{language}";
+	private static final String DEFAULT_ENDPOINT = "https://od-api.oxforddictionaries.com/api/v1/entries/" + LANGUAGE_PLACEHOLDER + "/";
+	private static final String DEFAULT_LANGUAGE = "en";
+	private static final Metrics METRICS = Metrics.get();
+
+	private final PoolingHttpClientConnectionManager connectionManager;
+	private final CloseableHttpClient httpClient;
+	private final String endpoint;
+	private final String defaultEndpoint;
+	private final String appId;
+	private final String appKey;
+	private final int connectTimeoutMillis;
+	private final int readTimeoutMillis;
+	private final long totalTimeoutMillis;
+	private final int maxRetries;
+	private final long backoffMillis;
+	private final CircuitBreaker circuitBreaker;
+	private final ConcurrencyLimiter concurrencyLimiter;
+
+	/**
+	 * Creates a client using the settings OXFORD_ENDPOINT, OXFORD_APP_ID, OXFORD_APP_KEY,
+	 * OXFORD_CONNECT_TIMEOUT_MILLIS, OXFORD_READ_TIMEOUT_MILLIS, OXFORD_TOTAL_TIMEOUT_MILLIS,
+	 * OXFORD_MAX_RETRIES, OXFORD_BACKOFF_MILLIS and OXFORD_MAX_CONNECTIONS. The circuit breaker and the
+	 * concurrency limiter use their own settings.
+	 */
+	public OxfordClient() {
+		this(Config.getString("OXFORD_ENDPOINT", DEFAULT_ENDPOINT),
+				Config.getString("OXFORD_APP_ID", "APP_ID"),
+				Config.getString("OXFORD_APP_KEY", "APP_KEY"),
+				Config.getInt("OXFORD_CONNECT_TIMEOUT_MILLIS", 1000),
+				Config.getInt("OXFORD_READ_TIMEOUT_MILLIS", 2000),
+				Config.getLong("OXFORD_TOTAL_TIMEOUT_MILLIS", 4000),
+				Config.getInt("OXFORD_MAX_RETRIES", 2),
+				Config.getLong("OXFORD_BACKOFF_MILLIS", 100),
+				Config.getInt("OXFORD_MAX_CONNECTIONS", 20));
+	}
+
+	public OxfordClient(String endpoint, String appId, String appKey, int connectTimeoutMillis, int readTimeoutMillis,
+			long totalTimeoutMillis, int maxRetries, long backoffMillis, int maxConnections) {
+		this(endpoint, appId, appKey, connectTimeoutMillis, readTimeoutMillis, totalTimeoutMillis, maxRetries, backoffMillis,
+				maxConnections, new CircuitBreaker(), new ConcurrencyLimiter(maxConnections));
+	}
+
+	public OxfordClient(String endpoint, String appId, String appKey, int connectTimeoutMillis, int readTimeoutMillis,
+			long totalTimeoutMillis, int maxRetries, long backoffMillis, int maxConnections,
+			CircuitBreaker circuitBreaker, ConcurrencyLimiter concurrencyLimiter) {
+		this.endpoint = endpoint.endsWith("/") ? endpoint : endpoint + "/";
+		this.defaultEndpoint = endpointFor(DEFAULT_LANGUAGE);
+		this.appId = appId;
+		this.appKey = appKey;
+		this.connectTimeoutMillis = connectTimeoutMillis;
+		this.readTimeoutMillis = readTimeoutMillis;
+		this.totalTimeoutMillis = totalTimeoutMillis;
+		this.maxRetries = maxRetries;
+		this.backoffMillis = backoffMillis;
+		this.circuitBreaker = circuitBreaker;
+		this.concurrencyLimiter = concurrencyLimiter;
+
+		this.connectionManager = new PoolingHttpClientConnectionManager(60, TimeUnit.SECONDS);
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnections);
+		connectionManager.setValidateAfterInactivity(10000);
+
+		this.httpClient = HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+				// only replays requests which failed before any answer, e.g. on a kept alive connection closed by the server
+				.setRetryHandler(new DefaultHttpRequestRetryHandler(1, false))
+				.disableCookieManagement()
+				.build();
+	}
+
+	/**
+	 * Calls the Oxford service for a word, passing the APP_ID and APP_KEY as header parameters in the request,
+	 * and hands the body of a successful answer to a listener, so that
+	 * the parts of the response which are not part of the {@link WordDetails} can be used without another call.
+	 * @param word the normalized word
+	 * @param bodyListener called with the body of the answer once the WordDetails are parsed, or null
+	 * @return WordDetails of the word, or {@link WordDetails#notFound()} when the service answers 404
+	 * @throws OxfordServiceException when no usable answer could be obtained within the total deadline
+	 */
+	@Override
+	public WordDetails fetch(String word, Consumer<byte[]> bodyListener) throws OxfordServiceException {
+		return fetch(defaultEndpoint, word, bodyListener, totalTimeoutMillis);
+	}
+
+	/**
+	 * Calls the Oxford service for a word as {@link #fetch(String, Consumer)} does, within the shorter of the
+	 * total deadline and the time given.
+	 * @param word the normalized word
+	 * @param bodyListener called with the body of the answer once the WordDetails are parsed, or null
+	 * @param timeoutMillis the time left to the request
+	 * @return WordDetails of the word, or {@link WordDetails#notFound()} when the service answers 404
+	 * @throws OxfordServiceException when no usable answer could be obtained in time
+	 */
+	@Override
+	public WordDetails fetch(String word, Consumer<byte[]> bodyListener, long timeoutMillis) throws OxfordServiceException {
+		return fetch(defaultEndpoint, word, bodyListener, Math.min(totalTimeoutMillis, timeoutMillis));
+	}
+
+	/**
+	 * @param language the code of the dictionary in the Oxford service, such as "en" or "es"
+	 * @return the lookups of the words in the dictionary of the language, through this client
+	 */
+	@Override
+	public DictionaryProvider forLanguage(String language) {
+		return DEFAULT_LANGUAGE.equals(language) ? this : new LanguageProvider(language);
+	}
+
+	private WordDetails fetch(String languageEndpoint, String word, Consumer<byte[]> bodyListener, long timeoutMillis)
+			throws OxfordServiceException {
+		if (timeoutMillis <= 0) {
+			// the time of the caller is up: not a failure of the service
+			throw new OxfordServiceException(OxfordServiceException.Failure.TIMEOUT,
+					"No time left, not calling Oxford for " + word);
+		}
+		if (!circuitBreaker.tryAcquire()) {
+			throw new OxfordServiceException(OxfordServiceException.Failure.UNAVAILABLE,
+					"Circuit breaker open, not calling Oxford for " + word);
+		}
+		if (!concurrencyLimiter.tryAcquire()) {
+			circuitBreaker.release();
+			METRICS.recordUpstreamEvent(Metrics.UpstreamEvent.LIMIT_REJECTED);
+			throw new OxfordServiceException(OxfordServiceException.Failure.RATE_LIMITED,
+					"Concurrency limit of " + concurrencyLimiter.getLimit() + " reached, not calling Oxford for " + word);
+		}
+
+		boolean unhealthy = true;
+		boolean overloaded = false;
+		boolean local = false;
+		try {
+			WordDetails wordDetails = fetchWithRetries(languageEndpoint, word, bodyListener, timeoutMillis);
+			unhealthy = false;
+			return wordDetails;
+		} catch (LocalTimeoutException e) {
+			local = true;
+			throw new OxfordServiceException(e.getFailure(), e.getMessage(), e.getCause());
+		} catch (OxfordServiceException e) {
+			unhealthy = e.getFailure() != OxfordServiceException.Failure.INVALID_RESPONSE;
+			overloaded = e.getFailure() == OxfordServiceException.Failure.TIMEOUT
+					|| e.getFailure() == OxfordServiceException.Failure.RATE_LIMITED;
+			throw e;
+		} finally {
+			if (local) {
+				circuitBreaker.release();
+				concurrencyLimiter.release();
+			} else {
+				if (unhealthy) {
+					circuitBreaker.onFailure();
+				} else {
+					circuitBreaker.onSuccess();
+				}
+				concurrencyLimiter.release(overloaded);
+			}
+		}
+	}
+
+	/**
+	 * @return the circuit breaker of the calls to the Oxford service
+	 */
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * @return the limiter of the calls to the Oxford service in flight
+	 */
+	public ConcurrencyLimiter getConcurrencyLimiter() {
+		return concurrencyLimiter;
+	}
+
+	private WordDetails fetchWithRetries(String languageEndpoint, String word, Consumer<byte[]> bodyListener,
+			long timeoutMillis) throws OxfordServiceException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+		for (int attempt = 0; ; attempt++) {
+			long remaining = millisUntil(deadline);
+			if (remaining <= 0) {
+				throw new OxfordServiceException(OxfordServiceException.Failure.TIMEOUT,
+						"Deadline exceeded before attempt " + (attempt + 1) + " for " + word);
+			}
+
+			int connectTimeout = (int) Math.min(connectTimeoutMillis, remaining);
+			int readTimeout = (int) Math.min(readTimeoutMillis, remaining);
+			HttpGet request = new HttpGet(languageEndpoint + encode(word));
+			request.setHeader("app_id", appId);
+			request.setHeader("app_key", appKey);
+			request.setConfig(RequestConfig.custom()
+					.setConnectionRequestTimeout(connectTimeout)
+					.setConnectTimeout(connectTimeout)
+					.setSocketTimeout(readTimeout)
+					.build());
+
+			int status = Metrics.NO_RESPONSE;
+			long retryAfterMillis = 0;
+			long start = System.nanoTime();
+			try (CloseableHttpResponse response = httpClient.execute(request)) {
+				status = response.getStatusLine().getStatusCode();
+				if (status == HttpStatus.SC_OK) {
+					if (bodyListener == null) {
+						// parsed as it is read, so reading the body counts as parsing; closing it reads the rest of the
+						// body, which keeps the connection alive
+						long received = System.nanoTime();
+						METRICS.recordPhase(Metrics.Phase.UPSTREAM_HTTP, received - start);
+						METRICS.recordUpstreamStatus(status);
+						WordDetails wordDetails = OxfordResponseParser.parse(response.getEntity().getContent());
+						METRICS.recordPhase(Metrics.Phase.JSON_PARSE, System.nanoTime() - received);
+						return wordDetails;
+					}
+					// the listener needs the whole body
+					byte[] body = EntityUtils.toByteArray(response.getEntity());
+					long received = System.nanoTime();
+					METRICS.recordPhase(Metrics.Phase.UPSTREAM_HTTP, received - start);
+					METRICS.recordUpstreamStatus(status);
+					WordDetails wordDetails = OxfordResponseParser.parse(body);
+					METRICS.recordPhase(Metrics.Phase.JSON_PARSE, System.nanoTime() - received);
+					bodyListener.accept(body);
+					return wordDetails;
+				}
+				METRICS.recordPhase(Metrics.Phase.UPSTREAM_HTTP, System.nanoTime() - start);
+				METRICS.recordUpstreamStatus(status);
+				EntityUtils.consumeQuietly(response.getEntity());
+				if (status == HttpStatus.SC_NOT_FOUND) {
+					return WordDetails.notFound();
+				}
+				retryAfterMillis = retryAfterMillis(response.getFirstHeader("Retry-After"));
+			} catch (ConnectionPoolTimeoutException e) {
+				throw new LocalTimeoutException("Timed out waiting for a connection to Oxford for " + word, e);
+			} catch (SocketTimeoutException | ConnectTimeoutException e) {
+				recordNoResponse(status, start);
+				boolean cutShort = e instanceof SocketTimeoutException ?
+						readTimeout < readTimeoutMillis : connectTimeout < connectTimeoutMillis;
+				if (cutShort) {
+					throw new LocalTimeoutException("Timed out calling Oxford for " + word + " in the time left", e);
+				}
+				throw new OxfordServiceException(OxfordServiceException.Failure.TIMEOUT, "Timed out calling Oxford for " + word, e);
+			} catch (JsonProcessingException e) {
+				throw new OxfordServiceException(OxfordServiceException.Failure.INVALID_RESPONSE, "Could not parse Oxford response for " + word, e);
+			} catch (IOException e) {
+				recordNoResponse(status, start);
+				throw new OxfordServiceException(OxfordServiceException.Failure.UNAVAILABLE, "Could not call Oxford for " + word, e);
+			}
+
+			OxfordServiceException.Failure failure = status == 429 ?
+					OxfordServiceException.Failure.RATE_LIMITED : OxfordServiceException.Failure.UNAVAILABLE;
+			boolean retryable = status == 429 || status >= 500;
+			long sleepMillis = Math.max(retryAfterMillis, backoff(attempt));
+			if (!retryable || attempt >= maxRetries || sleepMillis >= millisUntil(deadline)) {
+				throw new OxfordServiceException(failure, "Oxford answered " + status + " for " + word);
+			}
+
+			LOG.debug("Oxford answered {} for {}, retrying in {} ms", status, word, sleepMillis);
+			try {
+				Thread.sleep(sleepMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OxfordServiceException(failure, "Interrupted while retrying " + word, e);
+			}
+		}
+	}
+
+	/**
+	 * Opens a connection to the Oxford service and leaves it in the pool, so that the first lookup
+	 * does not pay for the TCP and TLS handshakes. Nothing is requested from the service.
+	 */
+	@Override
+	public void prime() {
+		URI uri = URI.create(defaultEndpoint);
+		HttpHost target = new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme());
+		HttpRoute route = new HttpRoute(target, null, "https".equalsIgnoreCase(uri.getScheme()));
+		HttpClientContext context = HttpClientContext.create();
+
+		HttpClientConnection connection = null;
+		try {
+			connection = connectionManager.requestConnection(route, null).get(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+			if (!connection.isOpen()) {
+				connectionManager.connect(connection, route, connectTimeoutMillis, context);
+				connectionManager.routeComplete(connection, route, context);
+			}
+			connectionManager.releaseConnection(connection, null, 60, TimeUnit.SECONDS);
+		} catch (IOException | ExecutionException e) {
+			LOG.warn("Could not open a connection to {}", target, e);
+			discard(connection);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			discard(connection);
+		}
+	}
+
+	private void discard(HttpClientConnection connection) {
+		if (connection != null) {
+			try {
+				connection.close();
+			} catch (IOException e) {
+				LOG.debug("Could not close connection", e);
+			}
+			connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		httpClient.close();
+	}
+
+	@Override
+	public String toString() {
+		return "OxfordClient [endpoint=" + endpoint + ", circuitBreaker=" + circuitBreaker
+				+ ", concurrencyLimiter=" + concurrencyLimiter + "]";
+	}
+
+	private String endpointFor(String language) {
+		return endpoint.replace(LANGUAGE_PLACEHOLDER, language);
+	}
+
+	/**
+	 * Records a call which failed before any answer. A failure while reading the body of an answer
+	 * is not recorded again, as its status has already been counted.
+	 */
+	private static void recordNoResponse(int status, long start) {
+		if (status == Metrics.NO_RESPONSE) {
+			METRICS.recordPhase(Metrics.Phase.UPSTREAM_HTTP, System.nanoTime() - start);
+			METRICS.recordUpstreamStatus(Metrics.NO_RESPONSE);
+		}
+	}
+
+	/**
+	 * Exponential backoff with jitter: half of the delay is fixed and the other half is random,
+	 * so that containers retrying at the same time spread their calls.
+	 */
+	private long backoff(int attempt) {
+		long delay = backoffMillis << Math.min(attempt, 10);
+		return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+	}
+
+	private static long retryAfterMillis(Header header) {
+		if (header == null) {
+			return 0;
+		}
+		try {
+			return TimeUnit.SECONDS.toMillis(Long.parseLong(header.getValue().trim()));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private static long millisUntil(long deadline) {
+		return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+	}
+
+	private static String encode(String word) {
+		try {
+			return URLEncoder.encode(word, "UTF-8").replace("+", "%20");
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * A timeout which tells nothing about the service: no pooled connection was free in time, or the attempt
+	 * was given less than the connect or read timeout of the client.
+	 */
+	private static final class LocalTimeoutException extends OxfordServiceException {
+
+		private static final long serialVersionUID = 1L;
+
+		private LocalTimeoutException(String message, Throwable cause) {
+			super(OxfordServiceException.Failure.TIMEOUT, message, cause);
+		}
+	}
+
+	/**
+	 * The lookups in the dictionary of another language, through the connections of the client.
+	 */
+	private final class LanguageProvider implements DictionaryProvider {
+
+		private final String language;
+		private final String languageEndpoint;
+
+		private LanguageProvider(String language) {
+			this.language = language;
+			this.languageEndpoint = endpointFor(language);
+		}
+
+		@Override
+		public WordDetails fetch(String word, Consumer<byte[]> bodyListener) throws OxfordServiceException {
+			return OxfordClient.this.fetch(languageEndpoint, word, bodyListener, totalTimeoutMillis);
+		}
+
+		@Override
+		public WordDetails fetch(String word, Consumer<byte[]> bodyListener, long timeoutMillis) throws OxfordServiceException {
+			return OxfordClient.this.fetch(languageEndpoint, word, bodyListener, Math.min(totalTimeoutMillis, timeoutMillis));
+		}
+
+		@Override
+		public void prime() {
+			OxfordClient.this.prime();
+		}
+
+		@Override
+		public String toString() {
+			return "OxfordClient [language=" + language + ", endpoint=" + languageEndpoint + "]";
+		}
+	}
+
+}
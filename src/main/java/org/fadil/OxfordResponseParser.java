@@ -0,0 +1,313 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * This class extracts the {@link WordDetails} of a word from the JSON response of
+ * "https://od-api.oxforddictionaries.com/api/v1/entries/en/{Word}" without building the document in memory.
+ *
+ * Only the first lexical entry of the first result is needed: its lexical category, and the first definition
+ * and the examples of the first sense of its first entry. The response is read token by token, every other
+ * value is skipped, and parsing stops as soon as the needed fields have been captured.
+ *
+ * The {@link OxfordClient} parses the body from the connection with {@link #parse(InputStream)}, unless the
+ * {@link FollowUpPrefetcher} also needs the body: the body is then read whole and parsed with
+ * {@link #parse(byte[])}, and the other senses of the word, which are only needed by follow-up requests, are
+ * read from it separately by {@link #parseSenses(byte[], int)}.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class OxfordResponseParser {
+
+	private static final JsonFactory FACTORY = new JsonFactory();
+
+	private OxfordResponseParser() {
+	}
+
+	/**
+	 * @param content the response body, closed when this method returns
+	 * @return WordDetails object containing the information retrieved from the JSON response
+	 * @throws IOException if the content cannot be read or is not valid JSON
+	 */
+	public static WordDetails parse(InputStream content) throws IOException {
+		try (JsonParser parser = FACTORY.createParser(content)) {
+			return parse(parser);
+		}
+	}
+
+	/**
+	 * @param content the response body
+	 * @return WordDetails object containing the information retrieved from the JSON response
+	 * @throws IOException if the content is not valid JSON
+	 */
+	public static WordDetails parse(byte[] content) throws IOException {
+		try (JsonParser parser = FACTORY.createParser(content)) {
+			return parse(parser);
+		}
+	}
+
+	private static WordDetails parse(JsonParser parser) throws IOException {
+		Extraction extraction = new Extraction();
+		if (parser.nextToken() == JsonToken.START_OBJECT) {
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.getCurrentName();
+				parser.nextToken();
+				if ("results".equals(name) && enterFirstObject(parser)) {
+					readResult(parser, extraction);
+					break;
+				}
+				parser.skipChildren();
+			}
+		}
+		return extraction.toWordDetails();
+	}
+
+	/**
+	 * Reads "results[0]" until its first lexical entry has been read.
+	 */
+	private static void readResult(JsonParser parser, Extraction extraction) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			parser.nextToken();
+			if ("lexicalEntries".equals(name) && enterFirstObject(parser)) {
+				readLexicalEntry(parser, extraction);
+				return;
+			}
+			parser.skipChildren();
+		}
+	}
+
+	/**
+	 * Reads "lexicalEntries[0]". Returns early once the lexical category and the first sense are captured,
+	 * as the lexical category may come before or after the entries.
+	 */
+	private static void readLexicalEntry(JsonParser parser, Extraction extraction) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+			if ("lexicalCategory".equals(name) && value == JsonToken.VALUE_STRING) {
+				extraction.lexicalCategory = parser.getText();
+			} else if ("entries".equals(name) && !extraction.senseRead && enterFirstObject(parser)) {
+				if (readEntry(parser, extraction)) {
+					return;
+				}
+				skipToEndOfArray(parser);
+			} else {
+				parser.skipChildren();
+			}
+			if (extraction.isComplete()) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Reads "entries[0]" up to the end of its first sense.
+	 * @return true if the extraction is complete, in which case the parser is left inside the entry
+	 */
+	private static boolean readEntry(JsonParser parser, Extraction extraction) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			parser.nextToken();
+			if ("senses".equals(name) && enterFirstObject(parser)) {
+				readSense(parser, extraction);
+				if (extraction.isComplete()) {
+					return true;
+				}
+				skipToEndOfArray(parser);
+			} else {
+				parser.skipChildren();
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reads "senses[0]": its first definition and the text of its examples.
+	 */
+	private static void readSense(JsonParser parser, Extraction extraction) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+			if ("definitions".equals(name) && value == JsonToken.START_ARRAY) {
+				if (parser.nextToken() == JsonToken.VALUE_STRING) {
+					extraction.definition = parser.getText();
+				}
+				if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+					parser.skipChildren();
+					skipToEndOfArray(parser);
+				}
+			} else if ("examples".equals(name) && value == JsonToken.START_ARRAY) {
+				while (parser.nextToken() == JsonToken.START_OBJECT) {
+					readExample(parser, extraction);
+				}
+				if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+					parser.skipChildren();
+					skipToEndOfArray(parser);
+				}
+			} else {
+				parser.skipChildren();
+			}
+		}
+		extraction.senseRead = true;
+	}
+
+	private static void readExample(JsonParser parser, Extraction extraction) throws IOException {
+		readExample(parser, extraction.examples);
+	}
+
+	private static void readExample(JsonParser parser, List<String> examples) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+			if ("text".equals(name) && value == JsonToken.VALUE_STRING) {
+				examples.add(parser.getText());
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Reads the senses of every entry of every lexical entry, in the order of the response, the first one
+	 * being the sense already held by the {@link WordDetails} of the response.
+	 * @param content the response body
+	 * @param maxSenses the number of senses after which parsing stops
+	 * @return the senses, each with the lexical category of its lexical entry
+	 * @throws IOException if the content is not valid JSON
+	 */
+	public static List<WordSense> parseSenses(byte[] content, int maxSenses) throws IOException {
+		List<WordSense> senses = new ArrayList<>();
+		try (JsonParser parser = FACTORY.createParser(content)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return senses;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME && senses.size() < maxSenses) {
+				String name = parser.getCurrentName();
+				if (parser.nextToken() == JsonToken.START_ARRAY && "results".equals(name)) {
+					while (parser.nextToken() == JsonToken.START_OBJECT && senses.size() < maxSenses) {
+						readResultSenses(parser, senses, maxSenses);
+					}
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		return senses;
+	}
+
+	private static void readResultSenses(JsonParser parser, List<WordSense> senses, int maxSenses) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME && senses.size() < maxSenses) {
+			String name = parser.getCurrentName();
+			if (parser.nextToken() == JsonToken.START_ARRAY && "lexicalEntries".equals(name)) {
+				while (parser.nextToken() == JsonToken.START_OBJECT && senses.size() < maxSenses) {
+					readLexicalEntrySenses(parser, senses, maxSenses);
+				}
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Reads the senses of a lexical entry. They are completed with the lexical category once the whole
+	 * lexical entry has been read, as the category may come after the entries.
+	 */
+	private static void readLexicalEntrySenses(JsonParser parser, List<WordSense> senses, int maxSenses) throws IOException {
+		String lexicalCategory = null;
+		List<Extraction> drafts = new ArrayList<>();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+			if ("lexicalCategory".equals(name) && value == JsonToken.VALUE_STRING) {
+				lexicalCategory = parser.getText();
+			} else if ("entries".equals(name) && value == JsonToken.START_ARRAY) {
+				while (parser.nextToken() == JsonToken.START_OBJECT) {
+					readEntrySenses(parser, drafts, maxSenses - senses.size());
+				}
+			} else {
+				parser.skipChildren();
+			}
+		}
+		for (Extraction draft : drafts) {
+			senses.add(new WordSense(Optional.ofNullable(lexicalCategory), Optional.ofNullable(draft.definition), draft.examples));
+		}
+	}
+
+	private static void readEntrySenses(JsonParser parser, List<Extraction> drafts, int maxDrafts) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			if (parser.nextToken() == JsonToken.START_ARRAY && "senses".equals(name)) {
+				while (parser.nextToken() == JsonToken.START_OBJECT) {
+					if (drafts.size() < maxDrafts) {
+						Extraction draft = new Extraction();
+						readSense(parser, draft);
+						drafts.add(draft);
+					} else {
+						parser.skipChildren();
+					}
+				}
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Moves from the current START_ARRAY token to the START_OBJECT of its first element.
+	 * @return false (leaving the parser after the value) if the value is not an array starting with an object
+	 */
+	private static boolean enterFirstObject(JsonParser parser) throws IOException {
+		if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return false;
+		}
+		JsonToken first = parser.nextToken();
+		if (first == JsonToken.START_OBJECT) {
+			return true;
+		}
+		if (first != JsonToken.END_ARRAY) {
+			parser.skipChildren();
+			skipToEndOfArray(parser);
+		}
+		return false;
+	}
+
+	private static void skipToEndOfArray(JsonParser parser) throws IOException {
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+			parser.skipChildren();
+		}
+	}
+
+	/**
+	 * The fields captured so far.
+	 */
+	private static final class Extraction {
+
+		private String lexicalCategory;
+		private String definition;
+		private final List<String> examples = new ArrayList<>();
+		private boolean senseRead;
+
+		private boolean isComplete() {
+			return lexicalCategory != null && senseRead;
+		}
+
+		private WordDetails toWordDetails() {
+			return new WordDetails(Optional.ofNullable(lexicalCategory), Optional.ofNullable(definition), examples);
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+package org.fadil;
+
+/**
+ * This exception is thrown when the Oxford service could not give a usable answer for a word.
+ * The {@link Failure} tells the caller why, so that a meaningful speech can be returned to the user.
+ * A word which does not exist is not a failure: it is answered with {@link WordDetails#notFound()}.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class OxfordServiceException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The reasons why a call to the Oxford service can fail.
+	 */
+	public enum Failure {
+		/** The service did not answer within the configured deadlines. */
+		TIMEOUT,
+		/** The service refused the call because our quota is exhausted (HTTP 429). */
+		RATE_LIMITED,
+		/** The service could not be reached or answered with an error. */
+		UNAVAILABLE,
+		/** The service answered with a body which could not be parsed. */
+		INVALID_RESPONSE
+	}
+
+	private final Failure failure;
+
+	public OxfordServiceException(Failure failure, String message) {
+		super(message);
+		this.failure = failure;
+	}
+
+	public OxfordServiceException(Failure failure, String message, Throwable cause) {
+		super(message, cause);
+		this.failure = failure;
+	}
+
+	public Failure getFailure() {
+		return failure;
+	}
+
+}
@@ -0,0 +1,149 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.util.EnumSet;
+
+import javax.servlet.DispatcherType;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.FilterHolder;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazon.speech.Sdk;
+import com.amazon.speech.speechlet.servlet.SpeechletServlet;
+
+/**
+ * This class hosts the skill as a standalone HTTPS endpoint on an embedded Jetty server, as an alternative to
+ * the AWS Lambda function. Requests are served by the {@link SpeechletServlet} of the Alexa Skills Kit, which
+ * verifies the signature and timestamp of each request, and a single {@link OxfordSpeechlet} is shared by all
+ * of them, so the caches and the pooled connections to the Oxford service stay warm for the life of the process.
+ *
+ * The server is configured with the following settings:
+ * OXFORD_SERVER_PORT, OXFORD_SERVER_KEYSTORE and OXFORD_SERVER_KEYSTORE_PASSWORD (plain HTTP when no key store
+ * is given, for instance behind a load balancer terminating TLS), OXFORD_SERVER_MAX_THREADS,
+ * OXFORD_SERVER_MIN_THREADS and OXFORD_SERVER_JOB_QUEUE for the thread pool, and
+ * OXFORD_SERVER_MAX_CONCURRENT_REQUESTS, OXFORD_SERVER_MAX_QUEUED_REQUESTS and
+ * OXFORD_SERVER_QUEUE_TIMEOUT_MILLIS for the {@link LoadSheddingFilter}.
+ *
+ * Under overload the requests wait for a thread in the job queue of the pool, then for a slot in the
+ * {@link LoadSheddingFilter}. The jobs are timed, so that the filter bounds the two waits together: a request
+ * which waited in the job queue longer than the queue timeout is shed as soon as it gets a thread, and its
+ * deadline counts from when it was queued. The job queue, 200 jobs by default, only absorbs the bursts of
+ * connections; a connection whose job cannot be queued is closed by Jetty. A request waiting in the filter holds
+ * a thread, so by default three quarters of the threads left by the acceptors and selectors of the connector run
+ * requests and the other quarter wait for a slot.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class OxfordSkillServer {
+
+	private static final Logger LOG = LoggerFactory.getLogger(OxfordSkillServer.class);
+
+	private final OxfordSpeechlet speechlet;
+	private final LoadSheddingFilter loadSheddingFilter;
+	private final Server server;
+
+	public OxfordSkillServer(OxfordSpeechlet speechlet) {
+		this.speechlet = speechlet;
+
+		int maxThreads = Config.getInt("OXFORD_SERVER_MAX_THREADS", 200);
+		QueuedThreadPool threadPool = new QueuedThreadPool(maxThreads,
+				Config.getInt("OXFORD_SERVER_MIN_THREADS", 16), 60000,
+				new BlockingArrayQueue<Runnable>(Config.getInt("OXFORD_SERVER_JOB_QUEUE", 200))) {
+
+			@Override
+			public void execute(Runnable job) {
+				super.execute(LoadSheddingFilter.timed(job));
+			}
+		};
+		threadPool.setName("skill-server");
+		this.server = new Server(threadPool);
+
+		ServerConnector connector = createConnector(server);
+		connector.setPort(Config.getInt("OXFORD_SERVER_PORT", 8443));
+		server.addConnector(connector);
+
+		if (System.getProperty(Sdk.SUPPORTED_APPLICATION_IDS_SYSTEM_PROPERTY) == null) {
+			System.setProperty(Sdk.SUPPORTED_APPLICATION_IDS_SYSTEM_PROPERTY,
+					Config.getString("OXFORD_APPLICATION_IDS", "APP_ID"));
+		}
+		SpeechletServlet servlet = new SpeechletServlet();
+		servlet.setSpeechlet(speechlet);
+
+		int requestThreads = Math.max(1,
+				maxThreads - connector.getAcceptors() - connector.getSelectorManager().getSelectorCount());
+		int maxConcurrent = Config.getInt("OXFORD_SERVER_MAX_CONCURRENT_REQUESTS", Math.max(1, requestThreads * 3 / 4));
+		this.loadSheddingFilter = new LoadSheddingFilter(maxConcurrent,
+				Config.getInt("OXFORD_SERVER_MAX_QUEUED_REQUESTS", Math.max(0, requestThreads - maxConcurrent)),
+				Config.getLong("OXFORD_SERVER_QUEUE_TIMEOUT_MILLIS", 500));
+
+		ServletContextHandler context = new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
+		context.setContextPath("/");
+		context.addServlet(new ServletHolder(servlet), "/*");
+		context.addFilter(new FilterHolder(loadSheddingFilter), "/*", EnumSet.of(DispatcherType.REQUEST));
+		server.setHandler(context);
+		server.setStopAtShutdown(true);
+	}
+
+	private static ServerConnector createConnector(Server server) {
+		String keyStore = Config.getString("OXFORD_SERVER_KEYSTORE", null);
+		if (keyStore == null) {
+			LOG.warn("No key store configured, serving plain HTTP");
+			return new ServerConnector(server);
+		}
+		SslContextFactory sslContextFactory = new SslContextFactory(keyStore);
+		sslContextFactory.setKeyStorePassword(Config.getString("OXFORD_SERVER_KEYSTORE_PASSWORD", ""));
+		sslContextFactory.setIncludeProtocols(Sdk.SUPPORTED_PROTOCOLS);
+		return new ServerConnector(server, sslContextFactory);
+	}
+
+	public void start() throws Exception {
+		server.start();
+		LOG.info("Skill server started on port {}", getPort());
+	}
+
+	public void stop() throws Exception {
+		server.stop();
+		try {
+			speechlet.getDictionaryProvider().close();
+		} catch (IOException e) {
+			LOG.warn("Could not close the dictionary provider", e);
+		}
+	}
+
+	public void join() throws InterruptedException {
+		server.join();
+	}
+
+	/**
+	 * @return the port the server listens on, once started
+	 */
+	public int getPort() {
+		return ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+	}
+
+	public LoadSheddingFilter getLoadSheddingFilter() {
+		return loadSheddingFilter;
+	}
+
+	public static void main(String[] args) throws Exception {
+		OxfordSpeechlet speechlet = new OxfordSpeechlet();
+		if (Config.getBoolean("OXFORD_PRIMING", true)) {
+			SpeechletPrimer.prime(speechlet);
+		}
+		OxfordSkillServer server = new OxfordSkillServer(speechlet);
+		server.start();
+		server.join();
+	}
+
+}
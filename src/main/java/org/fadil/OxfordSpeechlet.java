@@ -1,16 +1,26 @@
 package org.fadil;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.URL;
-import java.net.URLConnection;
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import com.amazon.speech.json.SpeechletRequestEnvelope;
 import com.amazon.speech.slu.Intent;
@@ -22,15 +32,6 @@ import com.amazon.speech.speechlet.SessionEndedRequest;
 import com.amazon.speech.speechlet.SessionStartedRequest;
 import com.amazon.speech.speechlet.SpeechletResponse;
 import com.amazon.speech.speechlet.SpeechletV2;
-import com.amazon.speech.ui.OutputSpeech;
-import com.amazon.speech.ui.PlainTextOutputSpeech;
-import com.amazon.speech.ui.Reprompt;
-import com.amazon.speech.ui.SimpleCard;
-import com.amazon.speech.ui.SsmlOutputSpeech;
-import com.amazonaws.util.json.JSONArray;
-import com.amazonaws.util.json.JSONException;
-import com.amazonaws.util.json.JSONObject;
-import com.amazonaws.util.json.JSONTokener;
 
 /**
  * This class provides the implementation of an AWS Lambda function that will handle requests
@@ -41,7 +42,12 @@ import com.amazonaws.util.json.JSONTokener;
  * to get lexical information for a word that the user has requested. The external web service is provided
  * by Oxford Dictionaries and requires registration to obtain an APP_ID and APP_KEY in order to call
  * the secure REST endpoints exposed.
- * 
+ *
+ * Every request is answered in its locale, a {@link SkillLocale} with its own dictionary, cache and speech.
+ *
+ * The speechlet lives as long as its container. When it is closed, its background threads stop and the
+ * connections of its dictionary provider and word store are released.
+ *
  * The ons-shot model and the dialog model are based on the examples provided by Amazon in its
  * Java Alexa Skills Kit SDK. They can be found here: https://github.com/alexa/skill-samples-java.
  * 
@@ -51,13 +57,163 @@ import com.amazonaws.util.json.JSONTokener;
  * @since 17/02/2018
  *
  */
-public class OxfordSpeechlet implements SpeechletV2 {
+public class OxfordSpeechlet implements SpeechletV2, Closeable {
 	
-	private static final String UNDEFINED = "undefined";
-	private static final String UNCATEGORIZED = "uncategorized";
 	private static final String SLOT_WORD = "Word";
+	private static final String[] SLOT_WORDS = { "WordOne", "WordTwo", "WordThree" };
+	private static final int MAX_SPOKEN_SENSES = 3;
+	private static final int PREWARM_CHUNK = 8;
 	private static final Logger LOG = LoggerFactory.getLogger(OxfordSpeechlet.class);
-	private static final String ENDPOINT = "https://od-api.oxforddictionaries.com/api/v1/entries/en/";
+	private static final Metrics METRICS = Metrics.get();
+	private static final String MDC_REQUEST_ID = "requestId";
+	private static final String MDC_SESSION_ID = "sessionId";
+	
+	private static final String[] ORDINALS = { "1", "2", "3", "4", "5", "6", "7", "8", "9", "10" };
+	
+	private final DictionaryProvider dictionaryProvider;
+	private final DynamoWordStore wordStore;
+	private final List<SkillLocale> skillLocales;
+	private final SkillLocale defaultLocale;
+	private final Map<Locale, SkillLocale> locales = new HashMap<>();
+	private final Map<String, SkillLocale> localesByLanguage = new HashMap<>();
+	private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+	private final BatchLookup batchLookup = new BatchLookup();
+	private final StaleRefresher staleRefresher = new StaleRefresher();
+	private final WordAnalytics wordAnalytics = new WordAnalytics();
+	private final Map<String, IntentHandler> intentHandlers = intentHandlers();
+	
+	public OxfordSpeechlet() {
+		this(DictionarySnapshot.fromConfig());
+	}
+	
+	private OxfordSpeechlet(DictionarySnapshot dictionarySnapshot) {
+		this(DictionaryProvider.fromConfig(), DynamoWordStore.fromConfig(), dictionarySnapshot,
+				FuzzyWordIndex.fromConfig(dictionarySnapshot));
+	}
+	
+	private OxfordSpeechlet(DictionaryProvider dictionaryProvider, DynamoWordStore wordStore,
+			DictionarySnapshot dictionarySnapshot, FuzzyWordIndex fuzzyWordIndex) {
+		this(dictionaryProvider, wordStore, SkillLocale.fromConfig(dictionaryProvider, dictionarySnapshot, fuzzyWordIndex));
+	}
+	
+	/**
+	 * Creates a speechlet answering every request in English.
+	 * @param dictionaryProvider the source of the words missing from every cache tier
+	 * @param wordCache the in-process cache
+	 * @param wordStore the DynamoDB store shared across containers, or null to only use the in-process cache
+	 */
+	public OxfordSpeechlet(DictionaryProvider dictionaryProvider, WordCache wordCache, DynamoWordStore wordStore) {
+		this(dictionaryProvider, wordCache, wordStore, null, null);
+	}
+	
+	/**
+	 * Creates a speechlet answering every request in English.
+	 * @param dictionaryProvider the source of the words missing from every cache tier
+	 * @param wordCache the in-process cache
+	 * @param wordStore the DynamoDB store shared across containers, or null to only use the in-process cache
+	 * @param dictionarySnapshot the precomputed words served without any call, or null
+	 * @param fuzzyWordIndex the index correcting misrecognized words, or null to look the words up as heard
+	 */
+	public OxfordSpeechlet(DictionaryProvider dictionaryProvider, WordCache wordCache, DynamoWordStore wordStore,
+			DictionarySnapshot dictionarySnapshot, FuzzyWordIndex fuzzyWordIndex) {
+		this(dictionaryProvider, wordStore, Collections.singletonList(new SkillLocale(Locale.UK, "en", true,
+				dictionaryProvider, wordCache, dictionarySnapshot, fuzzyWordIndex)));
+	}
+	
+	/**
+	 * @param dictionaryProvider the source of the words missing from every cache tier
+	 * @param wordStore the DynamoDB store shared across containers, or null to only use the in-process caches
+	 * @param locales the locales the skill runs in, the default one first
+	 */
+	public OxfordSpeechlet(DictionaryProvider dictionaryProvider, DynamoWordStore wordStore, List<SkillLocale> locales) {
+		this.dictionaryProvider = dictionaryProvider;
+		this.wordStore = wordStore;
+		this.skillLocales = locales;
+		this.defaultLocale = locales.get(0);
+		for (SkillLocale locale : locales) {
+			this.locales.putIfAbsent(locale.getLocale(), locale);
+			this.localesByLanguage.putIfAbsent(locale.getLocale().getLanguage(), locale);
+		}
+	}
+	
+	/**
+	 * @return the source of the words missing from every cache tier
+	 */
+	public DictionaryProvider getDictionaryProvider() {
+		return dictionaryProvider;
+	}
+	
+	/**
+	 * @return the cache of {@link WordDetails} of the default locale
+	 */
+	public WordCache getWordCache() {
+		return defaultLocale.getWordCache();
+	}
+	
+	/**
+	 * @return the coalescer of the concurrent lookups of this speechlet
+	 */
+	public RequestCoalescer getRequestCoalescer() {
+		return requestCoalescer;
+	}
+	
+	/**
+	 * @return the prefetcher of the senses asked for by the follow-ups of the default locale
+	 */
+	public FollowUpPrefetcher getFollowUpPrefetcher() {
+		return defaultLocale.getFollowUpPrefetcher();
+	}
+	
+	/**
+	 * @return the counts of the words asked for in the default language
+	 */
+	public WordAnalytics getWordAnalytics() {
+		return wordAnalytics;
+	}
+	
+	/**
+	 * Looks words up in the default locale ahead of the requests, so that the words most asked for are already
+	 * in the {@link WordCache} when a new container answers its first requests. The words are looked up
+	 * concurrently by the {@link BatchLookup}, a chunk at a time, and no chunk is started once the budget is spent.
+	 * The words of a chunk missing from the caches are read from the {@link DynamoWordStore} at once. The wait for
+	 * a chunk, the read of the store and the calls to the Oxford service are all cut to the budget left, so that
+	 * the prewarm ends with its budget; but unlike the words of a request, the words are looked up in every cache
+	 * tier and in the Oxford service however little budget is left.
+	 * @param words the words to look up, the most asked for first
+	 * @param budgetMillis how long the words are looked up for
+	 * @return the number of words looked up
+	 */
+	public int prewarm(List<String> words, long budgetMillis) {
+		// no tier below the full one, the budget only bounds the calls
+		RequestDeadline deadline = new RequestDeadline(budgetMillis, 0, 0);
+		int warmed = 0;
+		for (int from = 0; from < words.size() && deadline.remainingMillis() > 0; from += PREWARM_CHUNK) {
+			List<String> chunk = words.subList(from, Math.min(from + PREWARM_CHUNK, words.size()));
+			for (BatchLookup.Result result : batchLookup.lookupAll(chunk, batchLookupOf(chunk, defaultLocale, deadline),
+					deadline.remainingMillis())) {
+				if (result.getFailure() == null) {
+					warmed++;
+				}
+			}
+		}
+		return warmed;
+	}
+	
+	/**
+	 * @param locale the locale of a request, possibly null
+	 * @return the locale the request is answered in: the same locale, else the first one of the same
+	 * 				language, else the default locale
+	 */
+	public SkillLocale getSkillLocale(Locale locale) {
+		if (locale == null) {
+			return defaultLocale;
+		}
+		SkillLocale skillLocale = locales.get(locale);
+		if (skillLocale == null) {
+			skillLocale = localesByLanguage.getOrDefault(locale.getLanguage(), defaultLocale);
+		}
+		return skillLocale;
+	}
 	
 	/**
 	 * {@inheritDoc}
@@ -66,91 +222,170 @@ public class OxfordSpeechlet implements SpeechletV2 {
 	public SpeechletResponse onIntent(SpeechletRequestEnvelope<IntentRequest> requestEnvelope) {
 		IntentRequest request = requestEnvelope.getRequest(); 
 		Session session = requestEnvelope.getSession();
-		LOG.info("onIntent requestId={}, sessionId={}", request.getRequestId(), session.getSessionId());
 		
 		Intent intent = request.getIntent();
 		String intentName = intent.getName();
+		SkillLocale locale = getSkillLocale(request.getLocale());
+		RequestDeadline deadline = RequestDeadline.current();
+		long start = System.nanoTime();
 		
-		switch (intentName) {
-		
-			case "OneshotOxfordIntent":
-				return handleOneshotOxfordRequest(intent, session);
-				
-			case "DialogOxfordIntent":
-				return handleDialogOxfordRequest(intent, session);
-				
-			case "AMAZON.StopIntent":
-				return handleExitRequest(intent);
-				
-			case "AMAZON.CancelIntent":
-				return handleExitRequest(intent);
-				
-			case "AMAZON.YesIntent":
-				return handleYesForExamplesRequest(intent, session);
-				
-			case "AMAZON.NoIntent":
-				return handleExitRequest(intent);				
-				
-			default:
-				return handleUnsupportedRequest();
-		}		
+		putRequestContext(requestEnvelope);
+		try {
+			LOG.info("onIntent intent={} remainingMillis={}", intentName, deadline.remainingMillis());
+			
+			IntentHandler handler = intentHandlers.get(intentName);
+			return handler != null ? handler.handle(intent, session, locale, deadline) : handleUnsupportedRequest(locale);
+		} finally {
+			METRICS.recordIntent(intentName, System.nanoTime() - start);
+			METRICS.recordServingTier(deadline.getServedTier());
+			METRICS.emitIfDue();
+			wordAnalytics.flushIfDue();
+			clearRequestContext();
+		}
+	}
+
+	/**
+	 * Maps the intents of the interaction model to their handlers once, so that a request is dispatched by a
+	 * single lookup; the intents missing from the map are answered as unsupported.
+	 * @return the handlers by intent name
+	 */
+	private Map<String, IntentHandler> intentHandlers() {
+		Map<String, IntentHandler> handlers = new HashMap<>();
+		handlers.put("OneshotOxfordIntent", this::handleOneshotOxfordRequest);
+		handlers.put("DialogOxfordIntent", this::handleDialogOxfordRequest);
+		handlers.put("AMAZON.StopIntent", (intent, session, locale, deadline) -> handleExitRequest(intent, locale));
+		handlers.put("AMAZON.CancelIntent", (intent, session, locale, deadline) -> handleExitRequest(intent, locale));
+		handlers.put("AMAZON.YesIntent", (intent, session, locale, deadline) -> handleYesForExamplesRequest(intent, session, locale));
+		handlers.put("MoreOxfordIntent", this::handleMoreOxfordRequest);
+		handlers.put("BatchOxfordIntent", this::handleBatchOxfordRequest);
+		handlers.put("AMAZON.NoIntent", (intent, session, locale, deadline) -> handleExitRequest(intent, locale));
+		return Collections.unmodifiableMap(handlers);
 	}
 
 	/**
 	 * Creates {@code SpeechletResponse} for the intent and get the examples of the word from the Session.
 	 * @param intent
 	 * @param session
+	 * @param locale
 	 * @return SpeechletResponse of each example spoken and visual response for the AMAZON.YesIntent 
 	 */
-	private SpeechletResponse handleYesForExamplesRequest(Intent intent, Session session) {
-		StringBuilder examplesBuilder = new StringBuilder();
+	private SpeechletResponse handleYesForExamplesRequest(Intent intent, Session session, SkillLocale locale) {
+		List<String> examples = locale.getSessionExamples().decode(session.getAttribute("EXAMPLES"));
+		ResponseTemplates.Template exampleSpeech = locale.getSpeech().getExampleSpeech();
 		
-		Object sessionObj = session.getAttribute("EXAMPLES");
-		if (sessionObj instanceof List) {
-			@SuppressWarnings("unchecked")
-			List<String> examples = (List<String>) session.getAttribute("EXAMPLES");
-			
-			for (int i = 0; i < examples.size(); i++) {
-				examplesBuilder.append("Example " + (i+1))
-							   .append(": ")
-							   .append(examples.get(i))
-							   .append(". ");
-			}
+		int length = 0;
+		for (int i = 0; i < examples.size(); i++) {
+			length += exampleSpeech.length(ordinal(i), examples.get(i));
+		}
+		StringBuilder examplesBuilder = new StringBuilder(length);
+		for (int i = 0; i < examples.size(); i++) {
+			exampleSpeech.appendTo(examplesBuilder, ordinal(i), examples.get(i));
+		}
+		
+		return ResponseTemplates.tell(examplesBuilder.toString());
+	}
+	
+	/**
+	 * @param index
+	 * @return the number of the example at the index, as spoken
+	 */
+	private static String ordinal(int index) {
+		return index < ORDINALS.length ? ORDINALS[index] : Integer.toString(index + 1);
+	}
+
+	/**
+	 * Creates {@code SpeechletResponse} for the other meanings of the word kept in the Session. They are usually
+	 * staged by the {@link FollowUpPrefetcher} while the first answer was spoken, and only fetched now otherwise.
+	 * @param intent
+	 * @param session
+	 * @param locale
+	 * @param deadline
+	 * @return SpeechletResponse of the other meanings spoken and visual response for the MoreOxfordIntent
+	 */
+	private SpeechletResponse handleMoreOxfordRequest(Intent intent, Session session, SkillLocale locale,
+			RequestDeadline deadline) {
+		Object sessionObj = session.getAttribute("WORD");
+		if (!(sessionObj instanceof String)) {
+			return handleNoSlotDialogRequest(intent, session, locale);
 		}
+		String word = (String) sessionObj;
+		String key = WordCache.normalize(word);
+		FollowUpPrefetcher followUpPrefetcher = locale.getFollowUpPrefetcher();
 		
-		String examplesSpeech = examplesBuilder.toString();
-		SimpleCard card = new SimpleCard();
-		card.setTitle("Word Pooler");
-		card.setContent(examplesSpeech);
-		PlainTextOutputSpeech examplesSpeechOutput = new PlainTextOutputSpeech();
-		examplesSpeechOutput.setText(examplesSpeech);
+		List<WordSense> senses = followUpPrefetcher.getStaged(key);
+		try {
+			if (senses != null) {
+				METRICS.recordCacheOutcome(Metrics.CacheOutcome.PREFETCH_HIT);
+			} else {
+				RequestDeadline.Tier tier = deadline.tier();
+				if (tier != RequestDeadline.Tier.FULL) {
+					// no time left to call the Oxford service, the senses are staged for the next request
+					deadline.degradedTo(tier);
+					METRICS.recordCacheOutcome(Metrics.CacheOutcome.DEFERRED);
+					followUpPrefetcher.fetchLater(key);
+					throw new OxfordServiceException(OxfordServiceException.Failure.TIMEOUT, "No time left to look up the senses of " + key);
+				}
+				METRICS.recordCacheOutcome(Metrics.CacheOutcome.PREFETCH_MISS);
+				senses = followUpPrefetcher.loadNow(key, deadline.remainingMillis());
+			}
+		} catch (OxfordServiceException e) {
+			LOG.warn("lookupFailed word={} failure={} message={}", word, e.getFailure(), e.getMessage());
+			return locale.getSpeech().getFailureResponse(e.getFailure());
+		}
 		
-		return SpeechletResponse.newTellResponse(examplesSpeechOutput, card);
+		return ResponseTemplates.tell(buildSensesSpeechOutput(word, senses, locale.getSpeech()));
+	}
+	
+	/**
+	 * Method to build the speech of the other meanings of a word.
+	 * @param word
+	 * @param senses the senses of the word after the first one
+	 * @param speech the speech of the locale
+	 * @return the speech of the first {@value #MAX_SPOKEN_SENSES} senses which have a definition
+	 */
+	private String buildSensesSpeechOutput(String word, List<WordSense> senses, LocaleSpeech speech) {
+		StringBuilder sensesBuilder = new StringBuilder(256);
+		int spoken = 0;
+		for (WordSense sense : senses) {
+			if (!sense.getDefinition().isPresent() || spoken == MAX_SPOKEN_SENSES) {
+				continue;
+			}
+			if (spoken > 0) {
+				sensesBuilder.append(' ');
+			}
+			if (sense.getLexicalCategory().isPresent()) {
+				String lexicalCategory = sense.getLexicalCategory().get();
+				speech.getSenseCategorySpeech().appendTo(sensesBuilder, speech.article(lexicalCategory), lexicalCategory);
+			}
+			speech.getSenseSpeech().appendTo(sensesBuilder, word, sense.getDefinition().get());
+			if (!sense.getExamples().isEmpty()) {
+				speech.getSenseExampleSpeech().appendTo(sensesBuilder, sense.getExamples().get(0));
+			}
+			spoken++;
+		}
+		if (spoken == 0) {
+			return speech.getNoOtherSenseSpeech().render(word);
+		}
+		return sensesBuilder.toString();
 	}
 
 	/**
 	 * Returns a {@code SpeechletResponse} to the user when an invalid request is made.
+	 * @param locale
 	 * @return a SpeechletResponse that Alexa will speak to the user
 	 */
-	private SpeechletResponse handleUnsupportedRequest() {
-		String errorSpeech = "This is unsupported. Please try something else.";
-        return newAskResponse(errorSpeech, errorSpeech);
+	private SpeechletResponse handleUnsupportedRequest(SkillLocale locale) {
+		return locale.getSpeech().getUnsupportedResponse();
 	}
 
 	/**
 	 * Returns a {@code SpeechletResponse} to the user when a Stop, Cancel or No to examples requests are made.
 	 * @param intent
+	 * @param locale
 	 * @return a SpeechletResponse that Alexa will speak to the user
 	 */
-	private SpeechletResponse handleExitRequest(Intent intent) {
-		String goodbyeSpeech = "Alright. Thank you for using Word Pooler.";
-		SimpleCard card = new SimpleCard();
-		card.setTitle("Word Pooler");
-		card.setContent(goodbyeSpeech);
-		PlainTextOutputSpeech outputSpeech = new PlainTextOutputSpeech();
-        outputSpeech.setText(goodbyeSpeech);
-        
-        return SpeechletResponse.newTellResponse(outputSpeech, card);
+	private SpeechletResponse handleExitRequest(Intent intent, SkillLocale locale) {
+		return locale.getSpeech().getExitResponse();
 	}
 
 	/**
@@ -158,15 +393,18 @@ public class OxfordSpeechlet implements SpeechletV2 {
 	 * The Dialog model calls the One-shot model because only one parameter is being passed for now.
 	 * @param intent
 	 * @param session
+	 * @param locale
+	 * @param deadline
 	 * @return a SpeechletResponse that Alexa will use to speak to the user to get the word
 	 */
-	private SpeechletResponse handleDialogOxfordRequest(Intent intent, Session session) {
+	private SpeechletResponse handleDialogOxfordRequest(Intent intent, Session session, SkillLocale locale,
+			RequestDeadline deadline) {
 		Slot wordSlot = intent.getSlot(SLOT_WORD);
 		String word = wordSlot.getValue();
 		if (word != null) {
-			return handleOneshotOxfordRequest(intent, session);
+			return handleOneshotOxfordRequest(intent, session, locale, deadline);
 		} else {
-			return handleNoSlotDialogRequest(intent, session);
+			return handleNoSlotDialogRequest(intent, session, locale);
 		}
 	}
 
@@ -174,75 +412,213 @@ public class OxfordSpeechlet implements SpeechletV2 {
 	 * Returns a {@code SpeechletResponse} to the user when no input is provided.
 	 * @param intent
 	 * @param session
+	 * @param locale
 	 * @return a SpeechletResponse that Alexa will use to query the user again for the word
 	 */
-	private SpeechletResponse handleNoSlotDialogRequest(Intent intent, Session session) {
-		String speechOutput = "Please try again by saying a word.";
-		String repromptSpeech = "I'm sorry, I didn't catch that. Can you please say it again?";
-		return newAskResponse(speechOutput, repromptSpeech);
+	private SpeechletResponse handleNoSlotDialogRequest(Intent intent, Session session, SkillLocale locale) {
+		return locale.getSpeech().getNoSlotResponse();
 	}
 
 	/**
 	 * Returns a {@code SpeechletResponse} to the user when using the One-shot model.
 	 * @param intent
 	 * @param session
+	 * @param locale
+	 * @param deadline
 	 * @return a SpeechletResponse object that Alexa will use to return to the user
 	 */
-	private SpeechletResponse handleOneshotOxfordRequest(Intent intent, Session session) {
+	private SpeechletResponse handleOneshotOxfordRequest(Intent intent, Session session, SkillLocale locale,
+			RequestDeadline deadline) {
 		Slot wordSlot = intent.getSlot(SLOT_WORD);
 		String word = wordSlot.getValue();
+		LocaleSpeech speech = locale.getSpeech();
 		
-		StringBuilder builder = callOxfordService(word);
-		
-		String speechOutput = "";
-		String repromptText = "";
-		WordDetails wordDetails = null;
+		WordDetails wordDetails;
+		try {
+			wordDetails = lookupWord(word, locale, deadline);
+		} catch (OxfordServiceException e) {
+			LOG.warn("lookupFailed word={} failure={} message={}", word, e.getFailure(), e.getMessage());
+			return speech.getFailureResponse(e.getFailure());
+		}
 		
-		if (builder.length() == 0) {
-			speechOutput = "Sorry, the Word Pooler service is experiencing a problem. "
-								+ "Please try again later.";
-		} else {
+		boolean corrected = false;
+		String lemma = wordDetails.isFound() ? null : correctWord(word, locale);
+		if (lemma != null) {
 			try {
-				JSONObject oxfordResponseObject = new JSONObject(new JSONTokener(builder.toString()));
-				wordDetails = retrieveWordDetails(oxfordResponseObject);
-				speechOutput = buildSpeechOutput(speechOutput, word, wordDetails);
-				
-			} catch (JSONException e) {
-				LOG.error("Exception occured while parsing service response.", e);
+				WordDetails lemmaDetails = lookupWord(lemma, locale, deadline);
+				if (lemmaDetails.isFound()) {
+					word = lemma;
+					wordDetails = lemmaDetails;
+					corrected = true;
+				}
+			} catch (OxfordServiceException e) {
+				LOG.warn("lookupFailed word={} failure={} message={}", lemma, e.getFailure(), e.getMessage());
 			}
 		}
+		recordWord(word, locale);
+		
+		long speechStart = System.nanoTime();
+		if (wordDetails.isFound()) {
+			session.setAttribute("WORD", word);
+			locale.getFollowUpPrefetcher().prefetch(WordCache.normalize(word));
+		}
 		
-		List<String> examples = wordDetails != null ? wordDetails.getExamples() : null;
+		StringBuilder speechBuilder = new StringBuilder(256);
+		if (corrected) {
+			speech.getCorrectedSpeech().appendTo(speechBuilder, word);
+		}
+		appendSpeechOutput(speechBuilder, word, wordDetails, speech);
+		
+		List<String> examples = wordDetails.getExamples();
 		boolean hasExamples = hasExamples(examples);
+		if (hasExamples && deadline.tier() == RequestDeadline.Tier.LOCAL_ONLY) {
+			// with little time left, the answer ends without offering the examples
+			deadline.degradedTo(RequestDeadline.Tier.LOCAL_ONLY);
+			hasExamples = false;
+		}
 		if (hasExamples) {
-			setExamplesInSession(intent, session, examples);
-			speechOutput = speechOutput 
-					+ " I've found some examples for "
-					+ word
-					+ "."
-					+ " Would you like to hear them?";
+			setExamplesInSession(intent, session, word, examples, locale);
+			speech.getExamplesOfferSpeech().appendTo(speechBuilder, word);
 		}
 		
-		SimpleCard card = new SimpleCard();
-		card.setTitle("Word Pooler");
-		card.setContent(speechOutput);
-		PlainTextOutputSpeech outputSpeech = new PlainTextOutputSpeech();
-		outputSpeech.setText(speechOutput);
+		String speechOutput = speechBuilder.toString();
+		SpeechletResponse response = hasExamples ?
+				ResponseTemplates.ask(speechOutput, speech.getExamplesReprompt()) : ResponseTemplates.tell(speechOutput);
+		METRICS.recordPhase(Metrics.Phase.SPEECH_BUILDING, System.nanoTime() - speechStart);
+		return response;
+	}
+	
+	/**
+	 * Returns a {@code SpeechletResponse} to the user when several words are asked for at once. The words are
+	 * looked up concurrently by the {@link BatchLookup}, and the words which could not be looked up in time
+	 * are skipped with an apology rather than failing the whole response. The words missing from the caches are
+	 * read from the {@link DynamoWordStore} at once beforehand. The words which do not exist are
+	 * then corrected by {@link #correctMisses(List, SkillLocale, RequestDeadline)}.
+	 * @param intent
+	 * @param session
+	 * @param locale
+	 * @param deadline
+	 * @return a SpeechletResponse object speaking every word in turn
+	 */
+	private SpeechletResponse handleBatchOxfordRequest(Intent intent, Session session, SkillLocale locale,
+			RequestDeadline deadline) {
+		List<String> words = new ArrayList<>(SLOT_WORDS.length);
+		for (String slotName : SLOT_WORDS) {
+			Slot slot = intent.getSlot(slotName);
+			String word = slot != null ? slot.getValue() : null;
+			if (word != null && !word.isEmpty()) {
+				words.add(word);
+			}
+		}
+		LocaleSpeech speech = locale.getSpeech();
+		if (words.isEmpty()) {
+			return speech.getNoSlotResponse();
+		}
 		
-		repromptText = "I'm sorry, I didn't understand what you said. "
-				+ "Would you like to hear some examples?";
+		List<BatchLookup.Result> results = correctMisses(batchLookup.lookupAll(words,
+				batchLookupOf(words, locale, deadline), deadline.remainingMillis()), locale, deadline);
 		
-		return hasExamples ? newAskResponse(speechOutput, repromptText) : SpeechletResponse.newTellResponse(outputSpeech, card);
+		long speechStart = System.nanoTime();
+		StringBuilder speechBuilder = new StringBuilder(256 * results.size());
+		for (BatchLookup.Result result : results) {
+			if (speechBuilder.length() > 0) {
+				speechBuilder.append(' ');
+			}
+			if (result.getFailure() != null) {
+				LOG.warn("lookupFailed word={} failure={}", result.getWord(), result.getFailure());
+				speech.getBatchFailureSpeech().appendTo(speechBuilder, result.getWord());
+			} else {
+				recordWord(result.getWord(), locale);
+				appendSpeechOutput(speechBuilder, result.getWord(), result.getWordDetails(), speech);
+			}
+		}
+		SpeechletResponse response = ResponseTemplates.tell(speechBuilder.toString());
+		METRICS.recordPhase(Metrics.Phase.SPEECH_BUILDING, System.nanoTime() - speechStart);
+		return response;
+	}
+	
+	/**
+	 * Looks up again, as the closest known lemma, the words of a batch which do not exist. A word keeps its
+	 * own answer when there is no such lemma, or when the lemma does not exist either.
+	 * @param results the results of the words as heard
+	 * @param locale
+	 * @param deadline
+	 * @return the results, those of the corrected words replaced by the results of their lemmas
+	 */
+	private List<BatchLookup.Result> correctMisses(List<BatchLookup.Result> results, SkillLocale locale,
+			RequestDeadline deadline) {
+		List<Integer> positions = new ArrayList<>(results.size());
+		List<String> lemmas = new ArrayList<>(results.size());
+		for (int i = 0; i < results.size(); i++) {
+			BatchLookup.Result result = results.get(i);
+			String lemma = result.getWordDetails() != null && !result.getWordDetails().isFound() ?
+					correctWord(result.getWord(), locale) : null;
+			if (lemma != null) {
+				positions.add(i);
+				lemmas.add(lemma);
+			}
+		}
+		if (lemmas.isEmpty()) {
+			return results;
+		}
+		
+		List<BatchLookup.Result> corrections = batchLookup.lookupAll(lemmas, word -> lookupWord(word, locale, deadline),
+				deadline.remainingMillis());
+		List<BatchLookup.Result> corrected = new ArrayList<>(results);
+		for (int i = 0; i < corrections.size(); i++) {
+			BatchLookup.Result correction = corrections.get(i);
+			if (correction.getWordDetails() != null && correction.getWordDetails().isFound()) {
+				corrected.set(positions.get(i), correction);
+			}
+		}
+		return corrected;
+	}
+	
+	/**
+	 * Finds the known lemma closest to a word which does not exist, with the {@link FuzzyWordIndex} if any.
+	 * The word is only corrected once it is known not to exist, since the lemmas indexed are not the whole
+	 * dictionary.
+	 * @param word the value of the "Word" slot
+	 * @param locale
+	 * @return the lemma the word should be corrected to, or null if there is none
+	 */
+	private String correctWord(String word, SkillLocale locale) {
+		FuzzyWordIndex fuzzyWordIndex = locale.getFuzzyWordIndex();
+		if (fuzzyWordIndex == null) {
+			return null;
+		}
+		String key = WordCache.normalize(word);
+		String resolved = fuzzyWordIndex.resolve(key);
+		if (resolved == null || resolved.equals(key)) {
+			return null;
+		}
+		LOG.info("correctWord word={} resolved={}", word, resolved);
+		return resolved;
+	}
+	
+	/**
+	 * Counts a word asked for in the {@link WordAnalytics}. Only the words of the default language are counted,
+	 * the words warming the cache and filling the {@link DictionarySnapshot} being looked up in that language.
+	 * @param word the resolved word
+	 * @param locale
+	 */
+	private void recordWord(String word, SkillLocale locale) {
+		if (locale.isDefaultLanguage()) {
+			wordAnalytics.record(WordCache.normalize(word));
+		}
 	}
 	
 	/**
-	 * Stores the extracted examples in the Session.
+	 * Stores the extracted examples in the Session, encoded by {@link SessionExamples}.
 	 * @param intent
 	 * @param session
+	 * @param word
 	 * @param examples
+	 * @param locale
 	 */
-	private void setExamplesInSession(final Intent intent, final Session session, List<String> examples) {		
-		session.setAttribute("EXAMPLES", examples);		
+	private void setExamplesInSession(final Intent intent, final Session session, String word, List<String> examples,
+			SkillLocale locale) {		
+		session.setAttribute("EXAMPLES", locale.getSessionExamples().encode(word, examples));		
 	}
 
 	/**
@@ -257,235 +633,297 @@ public class OxfordSpeechlet implements SpeechletV2 {
 
 	/**
 	 * Method to build the speech for Alexa to speak.
+	 * @param speechBuilder the speech being built
+	 * @param word
 	 * @param wordDetails
-	 * @return the speech built from the information gathered in the {@link WordDetails} object
+	 * @param speech the speech of the locale
+	 * @return the speech builder with the information gathered in the {@link WordDetails} object appended
 	 */
-	private String buildSpeechOutput(String speechOutput, String word, WordDetails wordDetails) {
+	private StringBuilder appendSpeechOutput(StringBuilder speechBuilder, String word, WordDetails wordDetails,
+			LocaleSpeech speech) {
 		Optional<String> optLexicalCategory = wordDetails.getLexicalCategory();
 		Optional<String> optdefinition = wordDetails.getDefinition();
 		
-		String lexicalCategory =  optLexicalCategory.orElse(UNCATEGORIZED);
-		String definition = optdefinition.orElse(UNDEFINED);
+		if (optLexicalCategory.isPresent()) {
+			String lexicalCategory = optLexicalCategory.get();
+			speech.getCategorySpeech().appendTo(speechBuilder, word, speech.article(lexicalCategory), lexicalCategory);
+		} else {
+			speech.getUncategorizedSpeech().appendTo(speechBuilder, word);
+		}
 		
-		String lexicalCategorySpeechOuput = UNCATEGORIZED.equals(lexicalCategory) ?
-				new StringBuilder().append(word)
-									.append(" has not been classified in any lexical category")
-									.append(". ")
-									.toString()									
-				: new StringBuilder().append(word)
-									  .append(" is ")
-									  .append(startsWithAVowel(lexicalCategory) ? "an " : "a ")
-									  .append(lexicalCategory)
-									  .append(". ")
-									  .toString();
+		if (optdefinition.isPresent()) {
+			speech.getDefinitionSpeech().appendTo(speechBuilder, word, optdefinition.get());
+		} else {
+			speech.getUndefinedSpeech().appendTo(speechBuilder, word);
+		}
 		
-		String definitionSpeechOuput = UNDEFINED.equals(definition) ?
-				new StringBuilder().append("Sorry. ")
-									.append("I could not find any definition for the word ")
-									.append(word)
-									.append(".")
-									.toString()
-				: new StringBuilder().append(word)
-									  .append(" means ")
-									  .append(definition)
-									  .append(".")
-									  .toString();
-									
-		speechOutput = lexicalCategorySpeechOuput 
-				+ " " 
-				+ definitionSpeechOuput;										
+		return speechBuilder;
+	}
+	
+	/**
+	 * Reads the words of a batch missing from the {@link DictionarySnapshot} and the {@link WordCache} from the
+	 * {@link DynamoWordStore} with a single BatchGetItem, rather than one GetItem per word in the lookups of the
+	 * batch, and caches those found. The read is made by the first lookup of the batch needing it, so that it
+	 * runs within the deadline of the {@link BatchLookup} like any lookup, and only the lookups of the words it
+	 * reads wait for it, no longer than the time left. A single word, or a time left not allowing to read the
+	 * store, is left to {@link #lookupWord(String, SkillLocale, RequestDeadline)}.
+	 * @param words the words of the batch
+	 * @param locale
+	 * @param deadline
+	 * @return the lookup of a word of the batch, not reading again the words already read from the store
+	 */
+	private BatchLookup.Lookup batchLookupOf(List<String> words, SkillLocale locale, RequestDeadline deadline) {
+		BatchLookup.Lookup lookup = word -> lookupWord(word, locale, deadline);
+		if (wordStore == null || deadline.tier() == RequestDeadline.Tier.LOCAL_ONLY) {
+			return lookup;
+		}
+		DictionarySnapshot dictionarySnapshot = locale.getDictionarySnapshot();
+		WordCache wordCache = locale.getWordCache();
+		Map<String, String> keys = new HashMap<>();
+		for (String word : words) {
+			String key = WordCache.normalize(word);
+			if (key != null && !key.isEmpty() && !wordCache.contains(key)
+					&& (dictionarySnapshot == null || dictionarySnapshot.get(key) == null)) {
+				keys.put(locale.qualify(key), key);
+			}
+		}
+		if (keys.size() < 2) {
+			return lookup;
+		}
 		
-		return speechOutput;
+		AtomicBoolean reading = new AtomicBoolean();
+		CompletableFuture<Map<String, WordDetails>> read = new CompletableFuture<>();
+		return word -> {
+			String key = WordCache.normalize(word);
+			if (!keys.containsValue(key)) {
+				return lookupWord(word, locale, deadline);
+			}
+			if (reading.compareAndSet(false, true)) {
+				try {
+					read.complete(readStoredWords(keys, locale, deadline));
+				} finally {
+					read.complete(Collections.emptyMap());
+				}
+			}
+			Map<String, WordDetails> stored = awaitStoredWords(read, deadline);
+			WordDetails wordDetails = stored.get(key);
+			return wordDetails != null ? wordDetails : lookupWord(word, locale, deadline, !stored.containsKey(key));
+		};
 	}
 	
 	/**
-	 * @param text
-	 * @return true if a word begins with a vowel
-	 * 				false if word begins with a consonant
+	 * @param keys the normalized words, by qualified key
+	 * @param locale
+	 * @param deadline
+	 * @return the details of the words read from the {@link DynamoWordStore}, null for the words it does not hold
 	 */
-	private boolean startsWithAVowel(String text) {
-		return text.startsWith("A") || text.startsWith("a")
-					|| text.startsWith("E") || text.startsWith("e")
-					|| text.startsWith("I") || text.startsWith("i")
-					|| text.startsWith("O") || text.startsWith("o")
-					|| text.startsWith("U") || text.startsWith("U");
+	private Map<String, WordDetails> readStoredWords(Map<String, String> keys, SkillLocale locale,
+			RequestDeadline deadline) {
+		long start = System.nanoTime();
+		Map<String, WordDetails> stored = wordStore.getAll(keys.keySet(), deadline.remainingMillis());
+		METRICS.recordPhase(Metrics.Phase.STORE_LOOKUP, System.nanoTime() - start);
+		Map<String, WordDetails> read = new HashMap<>();
+		for (Map.Entry<String, String> entry : keys.entrySet()) {
+			WordDetails wordDetails = stored.get(entry.getKey());
+			if (wordDetails != null) {
+				METRICS.recordCacheOutcome(Metrics.CacheOutcome.STORE_HIT);
+				locale.getWordCache().put(entry.getValue(), wordDetails);
+			}
+			// the words missing from the store are kept with no details, so as not to read them again
+			read.put(entry.getValue(), wordDetails);
+		}
+		return read;
 	}
-
+	
 	/**
-	 * Calls the Oxford service by passing the APP_ID and APP_KEY as header parameters in the request.
-	 * APP_ID and APP_KEY are obtained when registering for an account on "https://developer.oxforddictionaries.com/".
+	 * @param read the read of the words of a batch made by another lookup of the batch
+	 * @param deadline
+	 * @return the words read, or none if the read could not be waited for in the time left
+	 */
+	private static Map<String, WordDetails> awaitStoredWords(CompletableFuture<Map<String, WordDetails>> read,
+			RequestDeadline deadline) {
+		try {
+			return read.get(Math.max(deadline.remainingMillis(), 0), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			return Collections.emptyMap();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Collections.emptyMap();
+		}
+	}
+	
+	/**
+	 * Looks the word up in the {@link DictionarySnapshot} when one is configured, then in the {@link WordCache},
+	 * then in the {@link DynamoWordStore} when one is configured, and only calls the Oxford service when all miss.
+	 * A word expired from the {@link WordCache} but within its stale window is answered at once and reloaded in
+	 * the background by the {@link StaleRefresher}.
+	 * Successful answers and words unknown to the Oxford service are stored in both cache tiers. Concurrent
+	 * lookups of the same word share a single load. The answers of the Oxford service are handed to the
+	 * {@link FollowUpPrefetcher} for their other senses. Every tier is looked up for the locale of the request.
+	 * When the time left is short, the {@link RequestDeadline.Tier} skips the Oxford service, then the
+	 * {@link DynamoWordStore}: a word missing from the tiers looked up is loaded in the background by the
+	 * {@link StaleRefresher}, for the next request, and this one fails with a timeout.
+	 * @param word
+	 * @param locale
+	 * @param deadline
+	 * @return WordDetails of the word, or {@link WordDetails#notFound()} if the word does not exist
+	 * @throws OxfordServiceException when the Oxford service could not give an answer, or there is no time left
+	 */
+	private WordDetails lookupWord(String word, SkillLocale locale, RequestDeadline deadline) throws OxfordServiceException {
+		return lookupWord(word, locale, deadline, true);
+	}
+	
+	/**
+	 * Looks the word up as {@link #lookupWord(String, SkillLocale, RequestDeadline)} does.
 	 * @param word
-	 * @return StringBuilder object containing the JSONObject response
+	 * @param locale
+	 * @param deadline
+	 * @param readStore false when the {@link DynamoWordStore} is already known not to hold the word
+	 * @return WordDetails of the word, or {@link WordDetails#notFound()} if the word does not exist
+	 * @throws OxfordServiceException when the Oxford service could not give an answer, or there is no time left
 	 */
-	private StringBuilder callOxfordService(String word) {
-		String queryString = ENDPOINT + word;
+	private WordDetails lookupWord(String word, SkillLocale locale, RequestDeadline deadline, boolean readStore)
+			throws OxfordServiceException {
+		String key = WordCache.normalize(word);
+		if (key == null || key.isEmpty()) {
+			return WordDetails.notFound();
+		}
 		
-		InputStreamReader inputStream = null;
-		BufferedReader bufferedReader = null;
-		StringBuilder builder = new StringBuilder();
+		DictionarySnapshot dictionarySnapshot = locale.getDictionarySnapshot();
+		WordDetails wordDetails = dictionarySnapshot != null ? dictionarySnapshot.get(key) : null;
+		if (wordDetails != null) {
+			METRICS.recordCacheOutcome(Metrics.CacheOutcome.SNAPSHOT_HIT);
+			return wordDetails;
+		}
 		
-		try {
-			URL url = new URL(queryString);
-			URLConnection urlConnection = url.openConnection();
-			urlConnection.setRequestProperty("app_id", "APP_ID");
-			urlConnection.setRequestProperty("app_key", "APP_KEY");
-			
-			inputStream = new InputStreamReader(urlConnection.getInputStream());
-			bufferedReader = new BufferedReader(inputStream);
-			
-			String line;
-			while ((line = bufferedReader.readLine()) != null) {
-				builder.append(line);
+		WordCache wordCache = locale.getWordCache();
+		wordDetails = wordCache.get(key);
+		if (wordDetails != null) {
+			METRICS.recordCacheOutcome(wordDetails.isFound() ? Metrics.CacheOutcome.HIT : Metrics.CacheOutcome.NEGATIVE_HIT);
+			return wordDetails;
+		}
+		
+		wordDetails = wordCache.getStale(key);
+		if (wordDetails != null) {
+			METRICS.recordCacheOutcome(Metrics.CacheOutcome.STALE_HIT);
+			String qualifiedKey = locale.qualify(key);
+			staleRefresher.refresh(qualifiedKey, () -> requestCoalescer.load(qualifiedKey, () -> loadWord(key, locale, null, true)));
+			return wordDetails;
+		}
+		
+		RequestDeadline.Tier tier = deadline.tier();
+		if (tier == RequestDeadline.Tier.FULL) {
+			return requestCoalescer.load(locale.qualify(key), () -> loadWord(key, locale, deadline, readStore),
+					deadline.remainingMillis());
+		}
+		deadline.degradedTo(tier);
+		if (tier == RequestDeadline.Tier.NO_UPSTREAM && readStore) {
+			wordDetails = loadStoredWord(key, locale, deadline);
+			if (wordDetails != null) {
+				return wordDetails;
 			}
-		} catch (Exception e) {
-			builder.setLength(0);
-		} finally {
-			IOUtils.closeQuietly(inputStream);
-			IOUtils.closeQuietly(bufferedReader);
 		}
-		return builder;
+		METRICS.recordCacheOutcome(Metrics.CacheOutcome.DEFERRED);
+		String qualifiedKey = locale.qualify(key);
+		staleRefresher.refresh(qualifiedKey, () -> requestCoalescer.load(qualifiedKey, () -> loadWord(key, locale, null, true)));
+		throw new OxfordServiceException(OxfordServiceException.Failure.TIMEOUT, "No time left to look up " + key);
 	}
-
+	
 	/**
-	 * Retrieves lexical category, definition and examples of a word from the JSONObject
-	 * response obtained from the call to "https://od-api.oxforddictionaries.com/api/v1/entries/en/{Word}" 
-	 * @param oxfordResponseObject
-	 * @return WordDetails object containing the information retrieved from the JSONObject response
-	 * @throws JSONException
+	 * Loads a word missing from the {@link WordCache}. Only one thread at a time runs this method for a word,
+	 * the others wait for its result in the {@link RequestCoalescer}.
+	 * @param key the normalized word
+	 * @param locale
+	 * @param deadline the deadline of the request the call to the Oxford service must end within, or null for a
+	 * 				load in the background, bounded by the timeouts of the provider only
+	 * @param readStore false when the {@link DynamoWordStore} is already known not to hold the word
+	 * @return WordDetails of the word, or {@link WordDetails#notFound()} if the word does not exist
+	 * @throws OxfordServiceException when the Oxford service could not give an answer in time
 	 */
-	private WordDetails retrieveWordDetails(JSONObject oxfordResponseObject) throws JSONException {
-		Optional<String> lexicalCategory = Optional.empty();
-		Optional<String> definition = Optional.empty();
-		List<String> examples = new ArrayList<>();
-		
-		if (oxfordResponseObject != null) {
-			JSONArray results = oxfordResponseObject.has("results") ?
-					(JSONArray) oxfordResponseObject.get("results") : null;
-			
-			JSONArray lexicalEntries = results != null && results.getJSONObject(0).has("lexicalEntries") ?
-					(JSONArray) results.getJSONObject(0).get("lexicalEntries") : null;
-			
-			if (lexicalEntries != null) {
-				lexicalCategory = lexicalEntries.getJSONObject(0).has("lexicalCategory") ?
-						Optional.ofNullable((String) lexicalEntries.getJSONObject(0).get("lexicalCategory")) : Optional.empty();
-						
-				JSONArray entries = lexicalEntries.getJSONObject(0).has("entries") ?
-						(JSONArray) lexicalEntries.getJSONObject(0).get("entries") : null;
-						
-				JSONArray senses = entries != null && entries.getJSONObject(0).has("senses") ? 
-									(JSONArray) entries.getJSONObject(0).get("senses") : null;
-				
-				if (senses != null) {
-					JSONArray definitionsArray = senses.getJSONObject(0).has("definitions") ?
-							(JSONArray) senses.getJSONObject(0).get("definitions") : null;
-					definition = definitionsArray != null && !definitionsArray.isNull(0) ?
-							Optional.ofNullable(definitionsArray.getString(0)) : Optional.empty();
-					
-					JSONArray examplesArray = senses.getJSONObject(0).has("examples") ?
-							(JSONArray) senses.getJSONObject(0).get("examples") : null;
-					if (examplesArray != null && examplesArray.length() > 0)
-					for (int i = 0; i < examplesArray.length(); i++) {
-						examples.add((String) examplesArray.getJSONObject(i).get("text"));
-					}
-				}
-			}			
+	private WordDetails loadWord(String key, SkillLocale locale, RequestDeadline deadline, boolean readStore)
+			throws OxfordServiceException {
+		WordDetails wordDetails = readStore ? loadStoredWord(key, locale, deadline) : null;
+		if (wordDetails != null) {
+			return wordDetails;
 		}
-		
-		return new WordDetails(lexicalCategory, definition, examples);
+		METRICS.recordCacheOutcome(Metrics.CacheOutcome.UPSTREAM);
+		FollowUpPrefetcher followUpPrefetcher = locale.getFollowUpPrefetcher();
+		// without a listener the answer is parsed as it is read, rather than read whole first
+		Consumer<byte[]> bodyListener = followUpPrefetcher.isEnabled() ?
+				body -> followUpPrefetcher.onFetched(key, body) : null;
+		wordDetails = deadline != null ?
+				locale.getDictionaryProvider().fetch(key, bodyListener, deadline.remainingMillis()) :
+				locale.getDictionaryProvider().fetch(key, bodyListener);
+		if (wordStore != null) {
+			wordStore.putAsync(locale.qualify(key), wordDetails);
+		}
+		locale.getWordCache().put(key, wordDetails);
+		return wordDetails;
 	}
 	
+	/**
+	 * Reads a word missing from the {@link WordCache} from the {@link DynamoWordStore} within the time left, and
+	 * caches it if found.
+	 * @param key the normalized word
+	 * @param locale
+	 * @param deadline the deadline of the request, or null for a load in the background
+	 * @return WordDetails of the word, or null if no store is configured or the store does not hold the word in time
+	 */
+	private WordDetails loadStoredWord(String key, SkillLocale locale, RequestDeadline deadline) {
+		if (wordStore == null) {
+			return null;
+		}
+		long start = System.nanoTime();
+		WordDetails wordDetails = wordStore.get(locale.qualify(key), deadline != null ? deadline.remainingMillis() : Long.MAX_VALUE);
+		METRICS.recordPhase(Metrics.Phase.STORE_LOOKUP, System.nanoTime() - start);
+		if (wordDetails != null) {
+			METRICS.recordCacheOutcome(Metrics.CacheOutcome.STORE_HIT);
+			locale.getWordCache().put(key, wordDetails);
+		}
+		return wordDetails;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public SpeechletResponse onLaunch(SpeechletRequestEnvelope<LaunchRequest> requestEnvelope) {
-		LOG.info("onLaunch requestId={}, sessionId={}",
-					requestEnvelope.getRequest().getRequestId(),
-					requestEnvelope.getSession().getSessionId());
+		long start = System.nanoTime();
 		
-		return getWelcomeResponse();
+		putRequestContext(requestEnvelope);
+		try {
+			LOG.info("onLaunch");
+			return getSkillLocale(requestEnvelope.getRequest().getLocale()).getSpeech().getWelcomeResponse();
+		} finally {
+			METRICS.recordIntent("LaunchRequest", System.nanoTime() - start);
+			METRICS.emitIfDue();
+			clearRequestContext();
+		}
 	}
 	
-	/**
-	 * Creates a {@code SpeechletResponse} object for the Dialog model.
-	 * @return SpeechletResponse spoken at the beginning of Dialog model interaction with the user
-	 */
-	private SpeechletResponse getWelcomeResponse() {
-		String whatWordPrompt = "What word would you like information for?";
-		String speechOutput = "<speak>"
-								+ "Welcome to Word Pooler. "
-								+ whatWordPrompt
-								+ "</speak>";
-		String repromptText = "I can provide you information for any specific word. "
-								+ "You can simply open Word Pooler and ask a question like, "
-								+ "what is the meaning of, and say the word you are looking for. "
-								+ whatWordPrompt;
-		
-		return newAskResponse(speechOutput, true, repromptText, false);
-	}
-	
-	/**
-     * Wrapper for creating the Ask response from the input strings with
-     * plain text output and reprompt speeches.
-     *
-     * @param stringOutput
-     *            the output to be spoken
-     * @param repromptText
-     *            the reprompt for if the user doesn't reply or is misunderstood.
-     * @return SpeechletResponse the speechlet response
-     */
-	private SpeechletResponse newAskResponse(String stringOutput, String repromptText) {
-        return newAskResponse(stringOutput, false, repromptText, false);
-    }
-	
-	/**
-     * Wrapper for creating the Ask response from the input strings.
-     *
-     * @param stringOutput
-     *            the output to be spoken
-     * @param isOutputSsml
-     *            whether the output text is of type SSML
-     * @param repromptText
-     *            the reprompt for if the user doesn't reply or is misunderstood.
-     * @param isRepromptSsml
-     *            whether the reprompt text is of type SSML
-     * @return SpeechletResponse the speechlet response
-     */
-	private SpeechletResponse newAskResponse(String stringOutput, boolean isOutputSsml,
-            String repromptText, boolean isRepromptSsml) {
-        OutputSpeech outputSpeech, repromptOutputSpeech;
-        if (isOutputSsml) {
-            outputSpeech = new SsmlOutputSpeech();
-            ((SsmlOutputSpeech) outputSpeech).setSsml(stringOutput);
-        } else {
-            outputSpeech = new PlainTextOutputSpeech();
-            ((PlainTextOutputSpeech) outputSpeech).setText(stringOutput);
-        }
-
-        if (isRepromptSsml) {
-            repromptOutputSpeech = new SsmlOutputSpeech();
-            ((SsmlOutputSpeech) repromptOutputSpeech).setSsml(stringOutput);
-        } else {
-            repromptOutputSpeech = new PlainTextOutputSpeech();
-            ((PlainTextOutputSpeech) repromptOutputSpeech).setText(repromptText);
-        }
-        
-        SimpleCard card = new SimpleCard();
-        card.setTitle("Word Pooler");
-        card.setContent(stringOutput);
-        Reprompt reprompt = new Reprompt();
-        reprompt.setOutputSpeech(repromptOutputSpeech);
-        return SpeechletResponse.newAskResponse(outputSpeech, reprompt, card);
-    }
-	
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public void onSessionEnded(SpeechletRequestEnvelope<SessionEndedRequest> requestEnvelope) {
-		LOG.info("onSessionEnded requestId={}, sessionId={}",
-					requestEnvelope.getRequest().getRequestId(),
-					requestEnvelope.getSession().getSessionId());
+		putRequestContext(requestEnvelope);
+		try {
+			LOG.info("onSessionEnded reason={}", requestEnvelope.getRequest().getReason());
+			// the counters are emitted by the Metrics, the state of the components is only for debugging
+			if (LOG.isDebugEnabled()) {
+				for (SkillLocale locale : skillLocales) {
+					LOG.debug("skillLocale {}", locale);
+				}
+				LOG.debug("requestCoalescer {}", requestCoalescer);
+				LOG.debug("batchLookup {}", batchLookup);
+				LOG.debug("staleRefresher {}", staleRefresher);
+				LOG.debug("wordAnalytics {}", wordAnalytics);
+				LOG.debug("dictionaryProvider {}", dictionaryProvider);
+			}
+			METRICS.emitIfDue();
+		} finally {
+			clearRequestContext();
+		}
 	}
 	
 	/**
@@ -493,9 +931,63 @@ public class OxfordSpeechlet implements SpeechletV2 {
 	 */
 	@Override
 	public void onSessionStarted(SpeechletRequestEnvelope<SessionStartedRequest> requestEnvelope) {
-		LOG.info("onSessionStarted requestId={}, sessionId={}",
-					requestEnvelope.getRequest().getRequestId(),
-					requestEnvelope.getSession().getSessionId());
+		putRequestContext(requestEnvelope);
+		try {
+			LOG.info("onSessionStarted");
+		} finally {
+			clearRequestContext();
+		}
+	}
+	
+	/**
+	 * Stops the background threads of the speechlet and closes its dictionary provider and word store. The
+	 * lookups, reloads and writes still queued are dropped.
+	 */
+	@Override
+	public void close() throws IOException {
+		batchLookup.close();
+		staleRefresher.close();
+		wordAnalytics.close();
+		// the locales of a language share their prefetcher
+		Set<FollowUpPrefetcher> followUpPrefetchers = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (SkillLocale locale : skillLocales) {
+			if (followUpPrefetchers.add(locale.getFollowUpPrefetcher())) {
+				locale.getFollowUpPrefetcher().close();
+			}
+		}
+		if (wordStore != null) {
+			wordStore.close();
+		}
+		dictionaryProvider.close();
+	}
+	
+	/**
+	 * Puts the ids of the request and of its session in the logging context of the current thread,
+	 * so that every line logged while handling the request carries them.
+	 * @param requestEnvelope
+	 */
+	private static void putRequestContext(SpeechletRequestEnvelope<?> requestEnvelope) {
+		MDC.put(MDC_REQUEST_ID, requestEnvelope.getRequest().getRequestId());
+		Session session = requestEnvelope.getSession();
+		if (session != null) {
+			MDC.put(MDC_SESSION_ID, session.getSessionId());
+		}
+	}
+	
+	/**
+	 * Removes the ids of the request from the logging context, the thread being reused for other requests.
+	 */
+	private static void clearRequestContext() {
+		MDC.remove(MDC_REQUEST_ID);
+		MDC.remove(MDC_SESSION_ID);
+	}
+	
+	/**
+	 * The handler of an intent of the interaction model.
+	 */
+	@FunctionalInterface
+	private interface IntentHandler {
+		SpeechletResponse handle(Intent intent, Session session, SkillLocale locale, RequestDeadline deadline);
 	}
 	
 }
@@ -1,39 +1,222 @@
 package org.fadil;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazon.speech.json.SpeechletRequestEnvelope;
+import com.amazon.speech.json.SpeechletResponseEnvelope;
+import com.amazon.speech.speechlet.Application;
+import com.amazon.speech.speechlet.CoreSpeechletRequest;
+import com.amazon.speech.speechlet.IntentRequest;
+import com.amazon.speech.speechlet.LaunchRequest;
+import com.amazon.speech.speechlet.Session;
+import com.amazon.speech.speechlet.SessionEndedRequest;
+import com.amazon.speech.speechlet.SessionStartedRequest;
 import com.amazon.speech.speechlet.Speechlet;
-import com.amazon.speech.speechlet.lambda.SpeechletRequestStreamHandler;
+import com.amazon.speech.speechlet.SpeechletRequest;
+import com.amazon.speech.speechlet.SpeechletRequestHandlerException;
+import com.amazon.speech.speechlet.SpeechletResponse;
+import com.amazon.speech.speechlet.SpeechletToSpeechletV2Adapter;
+import com.amazon.speech.speechlet.SpeechletV2;
+import com.amazon.speech.speechlet.interfaces.audioplayer.request.AudioPlayerRequest;
+import com.amazon.speech.speechlet.interfaces.core.AlexaSkillEventRequest;
+import com.amazon.speech.speechlet.interfaces.display.request.DisplayRequest;
+import com.amazon.speech.speechlet.interfaces.playbackcontroller.request.PlaybackControllerRequest;
+import com.amazon.speech.speechlet.interfaces.system.SystemInterface;
+import com.amazon.speech.speechlet.interfaces.system.SystemState;
+import com.amazon.speech.speechlet.interfaces.system.request.SystemRequest;
+import com.amazon.speech.speechlet.services.householdlist.AlexaHouseholdListEventRequest;
+import com.amazon.speech.speechlet.util.UserAgentUtils;
+import com.amazon.speech.speechlet.verifier.CardSpeechletResponseVerifier;
+import com.amazon.speech.speechlet.verifier.OutputSpeechSpeechletResponseVerifier;
+import com.amazon.speech.speechlet.verifier.ResponseSizeSpeechletResponseVerifier;
+import com.amazon.speech.speechlet.verifier.SpeechletResponseVerifier;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
 
 /**
  * This class is the handler for an AWS Lambda function that acts as a fulfillment service
  * for an Alexa skill. It is also the entry point of the lambda function and has to be
  * defined in the handler field as "OxfordSpeechletRequestStreamHandler" when creating the
  * Lambda function on AWS Cloud.
- * 
+ *
+ * The request is handled as the SpeechletRequestStreamHandler of the SDK handles it, without its per
+ * invocation overhead: the envelope is read straight from the input stream instead of a copy of it, the
+ * application id is checked against a set built once, the request is dispatched to the speechlet without
+ * allocating a dispatcher, and the response envelope is written straight into the output stream. The
+ * remaining time of the invocation is handed to the speechlet as the {@link RequestDeadline} of the request.
+ *
+ * As with the SDK, the response is checked by the same response verifiers before it is written, and the
+ * requests of the optional interfaces (AudioPlayer, PlaybackController, Display, System, skill and list events)
+ * are answered with an empty response, the speechlet implementing none of them. Only the request types unknown
+ * to the SDK are rejected.
+ *
  * @author Fadil
  * @version 1.0
  * @since 17/02/2018
- * 
+ *
  */
-public class OxfordSpeechletRequestStreamHandler extends SpeechletRequestStreamHandler {
-	
+public class OxfordSpeechletRequestStreamHandler implements RequestStreamHandler {
+
+	private static final Logger LOG = LoggerFactory.getLogger(OxfordSpeechletRequestStreamHandler.class);
+	private static final Metrics METRICS = Metrics.get();
+	private static final String VERSION = "1.0";
+	private static final String USER_AGENT = UserAgentUtils.getUserAgent();
+	private static final List<SpeechletResponseVerifier> RESPONSE_VERIFIERS = Collections.unmodifiableList(Arrays.asList(
+			new ResponseSizeSpeechletResponseVerifier(),
+			new OutputSpeechSpeechletResponseVerifier(),
+			new CardSpeechletResponseVerifier()));
+
 	private static final Set<String> SUPPORTED_APPLICATION_IDS;
-	
+	private static final OxfordSpeechlet SPEECHLET;
+
 	static {
-		
-		SUPPORTED_APPLICATION_IDS = new HashSet<>(); 
+
+		SUPPORTED_APPLICATION_IDS = new HashSet<>();
 		SUPPORTED_APPLICATION_IDS.add("APP_ID"); // Application Id of the Alexa skill
-		
+
+		// Built once per container, during the Lambda init phase, and shared by every invocation
+		SPEECHLET = new OxfordSpeechlet();
+		if (Config.getBoolean("OXFORD_PRIMING", true)) {
+			SpeechletPrimer.prime(SPEECHLET);
+		}
+
 	}
-	
+
+	private final SpeechletV2 speechlet;
+	private final Set<String> supportedApplicationIds;
+
 	public OxfordSpeechletRequestStreamHandler() {
-		super(new OxfordSpeechlet(), SUPPORTED_APPLICATION_IDS);
+		this(SPEECHLET, SUPPORTED_APPLICATION_IDS);
 	}
 
 	public OxfordSpeechletRequestStreamHandler(Speechlet speechlet, Set<String> supportedApplicationIds) {
-		super(speechlet, supportedApplicationIds);
+		this(new SpeechletToSpeechletV2Adapter(speechlet), supportedApplicationIds);
+	}
+
+	public OxfordSpeechletRequestStreamHandler(SpeechletV2 speechlet, Set<String> supportedApplicationIds) {
+		this.speechlet = speechlet;
+		this.supportedApplicationIds = supportedApplicationIds.size() == 1
+				? Collections.singleton(supportedApplicationIds.iterator().next())
+				: Collections.unmodifiableSet(new HashSet<>(supportedApplicationIds));
+		if (this.supportedApplicationIds.isEmpty()) {
+			LOG.warn("Application ID verification has been disabled, allowing request for all application IDs");
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+		SpeechletRequestEnvelope<?> requestEnvelope = SpeechletRequestEnvelope.fromJson(input);
+		if (!isSupported(requestEnvelope)) {
+			throw new RuntimeException(new SpeechletRequestHandlerException(
+					"Could not validate SpeechletRequest " + requestEnvelope.getRequest().getRequestId()));
+		}
+
+		SpeechletResponseEnvelope responseEnvelope;
+		RequestDeadline.set(RequestDeadline.withRemaining(context != null ? context.getRemainingTimeInMillis() : Long.MAX_VALUE));
+		try {
+			responseEnvelope = dispatch(requestEnvelope);
+		} finally {
+			RequestDeadline.clear();
+		}
+		for (SpeechletResponseVerifier verifier : RESPONSE_VERIFIERS) {
+			if (!verifier.verify(responseEnvelope, requestEnvelope.getSession())) {
+				throw new RuntimeException(new SpeechletRequestHandlerException("Could not validate SpeechletResponse "
+						+ requestEnvelope.getRequest().getRequestId() + " using verifier " + verifier.getClass().getSimpleName()));
+			}
+		}
+
+		long start = System.nanoTime();
+		responseEnvelope.toJson(output);
+		METRICS.recordPhase(Metrics.Phase.RESPONSE_SERIALIZATION, System.nanoTime() - start);
+	}
+
+	/**
+	 * @param requestEnvelope
+	 * @return true if the request was sent to one of the supported applications, read from the session or,
+	 * for the requests without any, from the system state
+	 */
+	private boolean isSupported(SpeechletRequestEnvelope<?> requestEnvelope) {
+		if (supportedApplicationIds.isEmpty()) {
+			return true;
+		}
+		Session session = requestEnvelope.getSession();
+		if (session != null && session.getApplication() != null) {
+			return supportedApplicationIds.contains(session.getApplication().getApplicationId());
+		}
+		com.amazon.speech.speechlet.Context requestContext = requestEnvelope.getContext();
+		SystemState systemState = requestContext != null
+				? requestContext.getState(SystemInterface.class, SystemState.class)
+				: null;
+		Application application = systemState != null ? systemState.getApplication() : null;
+		return application != null && supportedApplicationIds.contains(application.getApplicationId());
+	}
+
+	/**
+	 * Calls the speechlet as the SpeechletRequestDispatcher of the SDK does: onSessionStarted first when the
+	 * session is new, then the method of the request type. The requests of the optional interfaces get an empty
+	 * response without session attributes.
+	 * @param requestEnvelope
+	 * @return the response envelope, with the session attributes when the session goes on
+	 */
+	@SuppressWarnings("unchecked")
+	private SpeechletResponseEnvelope dispatch(SpeechletRequestEnvelope<?> requestEnvelope) {
+		SpeechletRequest request = requestEnvelope.getRequest();
+		Session session = requestEnvelope.getSession();
+
+		if (session != null && session.isNew()) {
+			SessionStartedRequest sessionStartedRequest = SessionStartedRequest.builder()
+					.withRequestId(request.getRequestId())
+					.withLocale(request.getLocale())
+					.build();
+			speechlet.onSessionStarted(SpeechletRequestEnvelope.<SessionStartedRequest>builder()
+					.withContext(requestEnvelope.getContext())
+					.withRequest(sessionStartedRequest)
+					.withSession(session)
+					.withVersion(requestEnvelope.getVersion())
+					.build());
+		}
+
+		SpeechletResponse response = null;
+		boolean sessionContinues = false;
+		if (request instanceof IntentRequest) {
+			response = speechlet.onIntent((SpeechletRequestEnvelope<IntentRequest>) requestEnvelope);
+			sessionContinues = response == null || !Boolean.TRUE.equals(response.getNullableShouldEndSession());
+		} else if (request instanceof LaunchRequest) {
+			response = speechlet.onLaunch((SpeechletRequestEnvelope<LaunchRequest>) requestEnvelope);
+			sessionContinues = response == null || !Boolean.TRUE.equals(response.getNullableShouldEndSession());
+		} else if (request instanceof SessionEndedRequest) {
+			speechlet.onSessionEnded((SpeechletRequestEnvelope<SessionEndedRequest>) requestEnvelope);
+		} else if (request instanceof CoreSpeechletRequest || request instanceof SystemRequest
+				|| request instanceof AudioPlayerRequest || request instanceof PlaybackControllerRequest
+				|| request instanceof DisplayRequest || request instanceof AlexaSkillEventRequest
+				|| request instanceof AlexaHouseholdListEventRequest) {
+			LOG.debug("Ignored request type {}", request.getClass().getSimpleName());
+		} else {
+			throw new RuntimeException(new SpeechletRequestHandlerException(
+					"Unsupported request type " + request.getClass().getName()));
+		}
+
+		SpeechletResponseEnvelope responseEnvelope = new SpeechletResponseEnvelope();
+		responseEnvelope.setVersion(VERSION);
+		responseEnvelope.setUserAgent(USER_AGENT);
+		responseEnvelope.setResponse(response);
+		if (sessionContinues && session != null) {
+			responseEnvelope.setSessionAttributes(session.getAttributes());
+		}
+		return responseEnvelope;
 	}
 
 }
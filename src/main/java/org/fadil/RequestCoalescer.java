@@ -0,0 +1,148 @@
+package org.fadil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class deduplicates concurrent lookups of the same word within the process. The first request for a
+ * word (the leader) performs the lookup, and every request for the same word arriving while it is in flight
+ * waits for the leader's result instead of calling the Oxford service again.
+ *
+ * A failed lookup is propagated to the leader and to every waiter, but it is not remembered: the next request
+ * for the word starts a new lookup. Waiters give up after "waitTimeoutMillis", or sooner when their request
+ * has less time left, with a timeout failure.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class RequestCoalescer {
+
+	/**
+	 * The lookup performed by the leader.
+	 */
+	public interface Loader {
+		WordDetails load() throws OxfordServiceException;
+	}
+
+	private final ConcurrentHashMap<String, CompletableFuture<WordDetails>> inFlight = new ConcurrentHashMap<>();
+	private final long waitTimeoutMillis;
+	private final AtomicLong upstreamCallCount = new AtomicLong();
+	private final AtomicLong coalescedCallCount = new AtomicLong();
+	private final AtomicLong waiterTimeoutCount = new AtomicLong();
+
+	/**
+	 * Creates a coalescer using the setting OXFORD_COALESCE_WAIT_MILLIS.
+	 */
+	public RequestCoalescer() {
+		this(Config.getLong("OXFORD_COALESCE_WAIT_MILLIS", 5000));
+	}
+
+	public RequestCoalescer(long waitTimeoutMillis) {
+		this.waitTimeoutMillis = waitTimeoutMillis;
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @param loader the lookup to perform if no lookup of the word is in flight
+	 * @return the result of the lookup, performed by this thread or by the thread already looking the word up
+	 * @throws OxfordServiceException if the lookup failed, or if waiting for it timed out
+	 */
+	public WordDetails load(String key, Loader loader) throws OxfordServiceException {
+		return load(key, loader, waitTimeoutMillis);
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @param loader the lookup to perform if no lookup of the word is in flight
+	 * @param remainingMillis the time left to the request, when shorter than the wait of the waiters
+	 * @return the result of the lookup, performed by this thread or by the thread already looking the word up
+	 * @throws OxfordServiceException if the lookup failed, or if waiting for it timed out
+	 */
+	public WordDetails load(String key, Loader loader, long remainingMillis) throws OxfordServiceException {
+		CompletableFuture<WordDetails> future = new CompletableFuture<>();
+		CompletableFuture<WordDetails> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null) {
+			coalescedCallCount.incrementAndGet();
+			Metrics.get().recordCacheOutcome(Metrics.CacheOutcome.COALESCED);
+			return await(key, existing, Math.min(waitTimeoutMillis, remainingMillis));
+		}
+
+		upstreamCallCount.incrementAndGet();
+		try {
+			WordDetails details = loader.load();
+			future.complete(details);
+			return details;
+		} catch (Throwable t) {
+			future.completeExceptionally(t);
+			throw t;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	private WordDetails await(String key, CompletableFuture<WordDetails> future, long timeoutMillis)
+			throws OxfordServiceException {
+		try {
+			return future.get(Math.max(timeoutMillis, 0), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			waiterTimeoutCount.incrementAndGet();
+			throw new OxfordServiceException(OxfordServiceException.Failure.TIMEOUT,
+					"Timed out waiting for the lookup of " + key + " in flight", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OxfordServiceException(OxfordServiceException.Failure.UNAVAILABLE,
+					"Interrupted while waiting for the lookup of " + key + " in flight", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof OxfordServiceException) {
+				throw new OxfordServiceException(((OxfordServiceException) cause).getFailure(), cause.getMessage(), cause);
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new OxfordServiceException(OxfordServiceException.Failure.UNAVAILABLE,
+					"Lookup of " + key + " in flight failed", cause);
+		}
+	}
+
+	/**
+	 * @return the number of lookups actually performed
+	 */
+	public long getUpstreamCallCount() {
+		return upstreamCallCount.get();
+	}
+
+	/**
+	 * @return the number of lookups saved by waiting for a lookup in flight
+	 */
+	public long getCoalescedCallCount() {
+		return coalescedCallCount.get();
+	}
+
+	/**
+	 * @return the number of waiters which gave up before the lookup in flight completed
+	 */
+	public long getWaiterTimeoutCount() {
+		return waiterTimeoutCount.get();
+	}
+
+	/**
+	 * @return the number of lookups currently in flight
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	@Override
+	public String toString() {
+		return "RequestCoalescer [upstreamCallCount=" + upstreamCallCount + ", coalescedCallCount=" + coalescedCallCount
+				+ ", waiterTimeoutCount=" + waiterTimeoutCount + ", inFlightCount=" + inFlight.size() + "]";
+	}
+
+}
@@ -0,0 +1,141 @@
+package org.fadil;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class is the time left to answer a request, so that each stage of the request can take a cheaper path
+ * rather than answering after Alexa has given up on the skill. The less time is left, the lower the
+ * {@link Tier} a stage runs at.
+ *
+ * The Lambda handler sets the deadline of the request from the remaining time of the invocation with
+ * {@link #set(RequestDeadline)}. The {@link LoadSheddingFilter} of the local server sets a deadline of
+ * OXFORD_REQUEST_BUDGET_MILLIS, 7000 by default, a second within the 8 seconds Alexa waits for an answer, started
+ * when the request was queued for a thread; elsewhere {@link #current()} starts that deadline. In every case the
+ * budget is never longer than OXFORD_REQUEST_BUDGET_MILLIS. Below OXFORD_TIER_UPSTREAM_MILLIS left, 2500 by
+ * default, the Oxford service is no longer called; below OXFORD_TIER_STORE_MILLIS, 500 by default, neither is
+ * the {@link DynamoWordStore}. A call to the Oxford service made with more time left is still bounded by
+ * {@link #remainingMillis()}: the total timeout of the {@link DictionaryProvider}, its retries and the wait for a
+ * lookup in flight in the {@link RequestCoalescer} are all cut to the time left, and so are the reads of the
+ * {@link DynamoWordStore}.
+ *
+ * A stage taking a cheaper path records its tier with {@link #degradedTo(Tier)}: the lowest tier recorded is the
+ * tier that served the request.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class RequestDeadline {
+
+	/**
+	 * The paths a stage may take, from the most complete to the cheapest.
+	 */
+	public enum Tier {
+		/** Every cache tier, then the Oxford service. */
+		FULL,
+		/** The snapshot, the in-process cache and the {@link DynamoWordStore}; the other words are loaded in the background. */
+		NO_UPSTREAM,
+		/** The snapshot and the in-process cache only, and a shorter answer without examples. */
+		LOCAL_ONLY
+	}
+
+	private static final long BUDGET_MILLIS = Config.getLong("OXFORD_REQUEST_BUDGET_MILLIS", 7000);
+	private static final long UPSTREAM_MILLIS = Config.getLong("OXFORD_TIER_UPSTREAM_MILLIS", 2500);
+	private static final long STORE_MILLIS = Config.getLong("OXFORD_TIER_STORE_MILLIS", 500);
+	private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+	private static final Tier[] TIERS = Tier.values();
+
+	private final long start = System.nanoTime();
+	private final long budgetNanos;
+	private final long upstreamNanos;
+	private final long storeNanos;
+	private final AtomicInteger servedTier = new AtomicInteger();
+
+	/**
+	 * @param budgetMillis the time left to answer the request
+	 * @param upstreamMillis the time left below which the Oxford service is not called
+	 * @param storeMillis the time left below which the {@link DynamoWordStore} is not read
+	 */
+	public RequestDeadline(long budgetMillis, long upstreamMillis, long storeMillis) {
+		this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+		this.upstreamNanos = TimeUnit.MILLISECONDS.toNanos(upstreamMillis);
+		this.storeNanos = TimeUnit.MILLISECONDS.toNanos(storeMillis);
+	}
+
+	/**
+	 * @param remainingMillis the time left before the invocation times out
+	 * @return a deadline starting now, of the time left capped by OXFORD_REQUEST_BUDGET_MILLIS
+	 */
+	public static RequestDeadline withRemaining(long remainingMillis) {
+		return new RequestDeadline(Math.min(remainingMillis, BUDGET_MILLIS), UPSTREAM_MILLIS, STORE_MILLIS);
+	}
+
+	/**
+	 * @param startNanos the {@link System#nanoTime()} the request was received at
+	 * @return a deadline of OXFORD_REQUEST_BUDGET_MILLIS started when the request was received
+	 */
+	public static RequestDeadline since(long startNanos) {
+		return withRemaining(BUDGET_MILLIS - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+	}
+
+	/**
+	 * Sets the deadline of the request handled by the current thread.
+	 * @param deadline
+	 */
+	public static void set(RequestDeadline deadline) {
+		CURRENT.set(deadline);
+	}
+
+	/**
+	 * @return the deadline set for the current thread, or a deadline of OXFORD_REQUEST_BUDGET_MILLIS starting now
+	 */
+	public static RequestDeadline current() {
+		RequestDeadline deadline = CURRENT.get();
+		return deadline != null ? deadline : new RequestDeadline(BUDGET_MILLIS, UPSTREAM_MILLIS, STORE_MILLIS);
+	}
+
+	/**
+	 * Removes the deadline of the current thread, the thread being reused for other requests.
+	 */
+	public static void clear() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * @return the time left to answer the request, negative once the deadline has passed
+	 */
+	public long remainingMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(budgetNanos - (System.nanoTime() - start));
+	}
+
+	/**
+	 * @return the tier allowed by the time left to a stage starting now
+	 */
+	public Tier tier() {
+		long remaining = budgetNanos - (System.nanoTime() - start);
+		return remaining >= upstreamNanos ? Tier.FULL : remaining >= storeNanos ? Tier.NO_UPSTREAM : Tier.LOCAL_ONLY;
+	}
+
+	/**
+	 * Records that a stage of the request took the cheaper path of a tier.
+	 * @param tier
+	 */
+	public void degradedTo(Tier tier) {
+		servedTier.accumulateAndGet(tier.ordinal(), Math::max);
+	}
+
+	/**
+	 * @return the lowest tier a stage of the request took the path of, {@link Tier#FULL} if none was degraded
+	 */
+	public Tier getServedTier() {
+		return TIERS[servedTier.get()];
+	}
+
+	@Override
+	public String toString() {
+		return "RequestDeadline [remainingMillis=" + remainingMillis() + ", servedTier=" + getServedTier() + "]";
+	}
+
+}
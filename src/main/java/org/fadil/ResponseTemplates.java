@@ -0,0 +1,157 @@
+package org.fadil;
+
+import com.amazon.speech.speechlet.SpeechletResponse;
+import com.amazon.speech.ui.OutputSpeech;
+import com.amazon.speech.ui.PlainTextOutputSpeech;
+import com.amazon.speech.ui.Reprompt;
+import com.amazon.speech.ui.SimpleCard;
+import com.amazon.speech.ui.SsmlOutputSpeech;
+
+/**
+ * This class builds the responses of the skill. The responses which never change are meant to be built once
+ * and shared by every request: the SDK only reads a {@link SpeechletResponse} to serialize it, so a shared
+ * response must simply never be modified once built. The speech of the other responses is rendered from
+ * {@link Template}s compiled once, into a buffer sized for the whole speech.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class ResponseTemplates {
+
+	static final String CARD_TITLE = "Word Pooler";
+
+	private ResponseTemplates() {
+	}
+
+	/**
+	 * @param speech the plain text spoken and shown on the card
+	 * @return a response ending the session
+	 */
+	public static SpeechletResponse tell(String speech) {
+		return SpeechletResponse.newTellResponse(plainText(speech), card(speech));
+	}
+
+	/**
+	 * @param speech the plain text spoken and shown on the card
+	 * @param reprompt the reprompt, which may be shared by several responses
+	 * @return a response keeping the session open
+	 */
+	public static SpeechletResponse ask(String speech, Reprompt reprompt) {
+		return SpeechletResponse.newAskResponse(plainText(speech), reprompt, card(speech));
+	}
+
+	/**
+	 * @param ssml the SSML spoken, also shown on the card
+	 * @param reprompt the reprompt, which may be shared by several responses
+	 * @return a response keeping the session open
+	 */
+	public static SpeechletResponse askSsml(String ssml, Reprompt reprompt) {
+		SsmlOutputSpeech outputSpeech = new SsmlOutputSpeech();
+		outputSpeech.setSsml(ssml);
+		return SpeechletResponse.newAskResponse(outputSpeech, reprompt, card(ssml));
+	}
+
+	/**
+	 * @param text the plain text spoken when the user doesn't reply or is misunderstood
+	 * @return the reprompt
+	 */
+	public static Reprompt reprompt(String text) {
+		Reprompt reprompt = new Reprompt();
+		reprompt.setOutputSpeech(plainText(text));
+		return reprompt;
+	}
+
+	private static OutputSpeech plainText(String text) {
+		PlainTextOutputSpeech outputSpeech = new PlainTextOutputSpeech();
+		outputSpeech.setText(text);
+		return outputSpeech;
+	}
+
+	private static SimpleCard card(String content) {
+		SimpleCard card = new SimpleCard();
+		card.setTitle(CARD_TITLE);
+		card.setContent(content);
+		return card;
+	}
+
+	/**
+	 * A speech with numbered placeholders, such as "{0} means {1}.", split once into its literal parts.
+	 */
+	public static final class Template {
+
+		private final String[] literals;
+		private final int[] slots;
+		private final int literalLength;
+
+		private Template(String[] literals, int[] slots) {
+			this.literals = literals;
+			this.slots = slots;
+			int length = 0;
+			for (String literal : literals) {
+				length += literal.length();
+			}
+			this.literalLength = length;
+		}
+
+		/**
+		 * @param pattern the speech, where "{n}" stands for the n-th value, n being a single digit
+		 * @return the template
+		 */
+		public static Template compile(String pattern) {
+			int count = 0;
+			for (int i = pattern.indexOf('{'); i >= 0; i = pattern.indexOf('{', i + 1)) {
+				count++;
+			}
+			String[] literals = new String[count + 1];
+			int[] slots = new int[count];
+			int start = 0;
+			for (int slot = 0; slot < count; slot++) {
+				int open = pattern.indexOf('{', start);
+				if (open + 2 >= pattern.length() || !Character.isDigit(pattern.charAt(open + 1))
+						|| pattern.charAt(open + 2) != '}') {
+					throw new IllegalArgumentException("Invalid placeholder at " + open + " in " + pattern);
+				}
+				literals[slot] = pattern.substring(start, open);
+				slots[slot] = pattern.charAt(open + 1) - '0';
+				start = open + 3;
+			}
+			literals[count] = pattern.substring(start);
+			return new Template(literals, slots);
+		}
+
+		/**
+		 * @param values the values of the placeholders
+		 * @return the number of characters of the rendered speech
+		 */
+		public int length(String... values) {
+			int length = literalLength;
+			for (int slot : slots) {
+				length += values[slot].length();
+			}
+			return length;
+		}
+
+		/**
+		 * @param builder the speech being built
+		 * @param values the values of the placeholders
+		 * @return the builder
+		 */
+		public StringBuilder appendTo(StringBuilder builder, String... values) {
+			for (int i = 0; i < slots.length; i++) {
+				builder.append(literals[i]).append(values[slots[i]]);
+			}
+			return builder.append(literals[slots.length]);
+		}
+
+		/**
+		 * @param values the values of the placeholders
+		 * @return the rendered speech
+		 */
+		public String render(String... values) {
+			return appendTo(new StringBuilder(length(values)), values).toString();
+		}
+	}
+
+}
@@ -0,0 +1,231 @@
+package org.fadil;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class encodes the examples of a word kept in the Session until the user asks to hear them. The session
+ * attributes are sent with every response and sent back with every request of the session, so they are kept
+ * as one short string rather than a list of the full examples:
+ * <pre>
+ * "1r" + word                       the word is in the {@link DictionarySnapshot}, which holds its examples
+ * "1t" + examples                   the examples separated by new lines
+ * "1z" + Base64(Deflate(examples))  the same, when compressing makes it shorter
+ * </pre>
+ * The first character is the version of the encoding. The examples stored inline are capped in number and in
+ * bytes. Decoding never fails: an unknown version or a malformed value decodes to no examples, and the lists
+ * stored by the previous versions of the skill are still read.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class SessionExamples {
+
+	static final char VERSION = '1';
+	static final char REFERENCE = 'r';
+	static final char TEXT = 't';
+	static final char DEFLATED = 'z';
+
+	private static final char SEPARATOR = '\n';
+	private static final int MAX_INFLATED_BYTES = 1 << 16;
+	/** Shorter examples do not compress enough to make up for the Base64 encoding. */
+	private static final int MIN_DEFLATED_LENGTH = 256;
+	private static final Logger LOG = LoggerFactory.getLogger(SessionExamples.class);
+
+	private final DictionarySnapshot dictionarySnapshot;
+	private final boolean compact;
+	private final int maxExamples;
+	private final int maxBytes;
+
+	/**
+	 * Creates the encoding using the settings OXFORD_SESSION_COMPACT, OXFORD_SESSION_MAX_EXAMPLES and
+	 * OXFORD_SESSION_MAX_BYTES.
+	 * @param dictionarySnapshot the snapshot the examples can be referenced from, or null
+	 */
+	public SessionExamples(DictionarySnapshot dictionarySnapshot) {
+		this(dictionarySnapshot,
+				Config.getBoolean("OXFORD_SESSION_COMPACT", true),
+				Config.getInt("OXFORD_SESSION_MAX_EXAMPLES", 5),
+				Config.getInt("OXFORD_SESSION_MAX_BYTES", 1024));
+	}
+
+	/**
+	 * @param dictionarySnapshot the snapshot the examples can be referenced from, or null
+	 * @param compact false to store the full list of examples, as the previous versions of the skill did
+	 * @param maxExamples the number of examples stored inline
+	 * @param maxBytes the number of UTF-8 bytes of the examples stored inline
+	 */
+	public SessionExamples(DictionarySnapshot dictionarySnapshot, boolean compact, int maxExamples, int maxBytes) {
+		this.dictionarySnapshot = dictionarySnapshot;
+		this.compact = compact;
+		this.maxExamples = maxExamples;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * @param word the word the examples belong to
+	 * @param examples the examples of the word
+	 * @return the value of the session attribute
+	 */
+	public Object encode(String word, List<String> examples) {
+		if (!compact) {
+			return examples;
+		}
+		String key = WordCache.normalize(word);
+		if (key != null && dictionarySnapshot != null && dictionarySnapshot.contains(key)) {
+			return "" + VERSION + REFERENCE + key;
+		}
+
+		String text = join(examples);
+		if (text.length() >= MIN_DEFLATED_LENGTH) {
+			byte[] deflated = deflate(text.getBytes(StandardCharsets.UTF_8));
+			// Base64 grows the compressed bytes by a third
+			if ((deflated.length + 2) / 3 * 4 < text.length()) {
+				return "" + VERSION + DEFLATED + Base64.getEncoder().encodeToString(deflated);
+			}
+		}
+		return "" + VERSION + TEXT + text;
+	}
+
+	/**
+	 * @param attribute the value of the session attribute, as sent back in the request
+	 * @return the examples, empty if there are none or if the value cannot be decoded
+	 */
+	public List<String> decode(Object attribute) {
+		if (attribute instanceof List) {
+			List<String> examples = new ArrayList<>();
+			for (Object example : (List<?>) attribute) {
+				if (example instanceof String) {
+					examples.add((String) example);
+				}
+			}
+			return examples;
+		}
+		if (!(attribute instanceof String) || ((String) attribute).length() < 2 || ((String) attribute).charAt(0) != VERSION) {
+			return Collections.emptyList();
+		}
+
+		String value = (String) attribute;
+		String payload = value.substring(2);
+		switch (value.charAt(1)) {
+
+			case REFERENCE:
+				WordDetails wordDetails = dictionarySnapshot != null ? dictionarySnapshot.get(payload) : null;
+				return wordDetails != null ? wordDetails.getExamples() : Collections.emptyList();
+
+			case TEXT:
+				return split(payload);
+
+			case DEFLATED:
+				try {
+					return split(inflate(Base64.getDecoder().decode(payload)));
+				} catch (IllegalArgumentException | DataFormatException e) {
+					LOG.warn("Ignoring malformed session examples", e);
+					return Collections.emptyList();
+				}
+
+			default:
+				return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Joins the first examples which fit in the caps, the first one being truncated if it does not fit alone.
+	 */
+	private String join(List<String> examples) {
+		StringBuilder text = new StringBuilder();
+		int bytes = 0;
+		for (int i = 0; i < examples.size() && i < maxExamples; i++) {
+			String example = examples.get(i).replace(SEPARATOR, ' ');
+			int exampleBytes = example.getBytes(StandardCharsets.UTF_8).length + (i > 0 ? 1 : 0);
+			if (bytes + exampleBytes > maxBytes) {
+				if (i == 0) {
+					text.append(truncate(example, maxBytes));
+				}
+				break;
+			}
+			if (i > 0) {
+				text.append(SEPARATOR);
+			}
+			text.append(example);
+			bytes += exampleBytes;
+		}
+		return text.toString();
+	}
+
+	private static String truncate(String text, int maxBytes) {
+		int end = Math.min(text.length(), maxBytes);
+		while (end > 0 && text.substring(0, end).getBytes(StandardCharsets.UTF_8).length > maxBytes) {
+			end--;
+		}
+		if (end > 0 && end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+			end--;
+		}
+		return text.substring(0, end);
+	}
+
+	private static List<String> split(String text) {
+		if (text.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<String> examples = new ArrayList<>();
+		int start = 0;
+		for (int end = text.indexOf(SEPARATOR); end >= 0; end = text.indexOf(SEPARATOR, start)) {
+			examples.add(text.substring(start, end));
+			start = end + 1;
+		}
+		examples.add(text.substring(start));
+		return examples;
+	}
+
+	private static byte[] deflate(byte[] bytes) {
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length);
+			byte[] buffer = new byte[512];
+			while (!deflater.finished()) {
+				output.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return output.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static String inflate(byte[] bytes) throws DataFormatException {
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(bytes);
+			ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length * 3);
+			byte[] buffer = new byte[512];
+			while (!inflater.finished()) {
+				int count = inflater.inflate(buffer);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new DataFormatException("Truncated session examples");
+				}
+				output.write(buffer, 0, count);
+				if (output.size() > MAX_INFLATED_BYTES) {
+					throw new DataFormatException("Session examples too large");
+				}
+			}
+			return new String(output.toByteArray(), StandardCharsets.UTF_8);
+		} finally {
+			inflater.end();
+		}
+	}
+
+}
@@ -0,0 +1,202 @@
+package org.fadil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class is one of the locales the skill runs in, such as en-GB or es-ES: the dictionary its words are
+ * looked up in, the partition of the {@link WordCache} and the staged senses of that dictionary, and its own
+ * {@link LocaleSpeech}. The words and the budget of a dictionary are never shared with another one, but the
+ * locales of the same language, such as en-GB and en-US, share everything but their speech.
+ *
+ * The locales are set by OXFORD_LOCALES, a comma separated list of "tag=language" pairs mapping the language tag
+ * of an Alexa locale to the code of an Oxford dictionary, "en-GB=en,en-US=en" by default. The first one is the
+ * default locale: it answers the requests of the locales which are not listed and of another language. Its
+ * language is the default language: the locales of that language use the {@link DictionarySnapshot} and the
+ * {@link FuzzyWordIndex}, and their words are counted by the {@link WordAnalytics} and warm the cache. The
+ * words of the other languages are qualified by their language in the structures shared by every locale, such
+ * as the {@link DynamoWordStore}.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class SkillLocale {
+
+	private final Locale locale;
+	private final String language;
+	private final String keyPrefix;
+	private final DictionaryProvider dictionaryProvider;
+	private final WordCache wordCache;
+	private final FollowUpPrefetcher followUpPrefetcher;
+	private final SessionExamples sessionExamples;
+	private final DictionarySnapshot dictionarySnapshot;
+	private final FuzzyWordIndex fuzzyWordIndex;
+	private final LocaleSpeech speech;
+
+	/**
+	 * @param locale the locale of the requests
+	 * @param language the code of the dictionary of the Oxford service, such as "en" or "es"
+	 * @param defaultLanguage true for the language of the default locale, whose words are not qualified
+	 * @param dictionaryProvider the source of the words missing from every cache tier, in every language
+	 * @param wordCache the in-process cache of the language
+	 * @param dictionarySnapshot the precomputed words served without any call, or null
+	 * @param fuzzyWordIndex the index correcting misrecognized words, or null to look the words up as heard
+	 */
+	public SkillLocale(Locale locale, String language, boolean defaultLanguage, DictionaryProvider dictionaryProvider,
+			WordCache wordCache, DictionarySnapshot dictionarySnapshot, FuzzyWordIndex fuzzyWordIndex) {
+		this.locale = locale;
+		this.language = language;
+		this.keyPrefix = defaultLanguage ? "" : language + ":";
+		this.dictionaryProvider = dictionaryProvider.forLanguage(language);
+		this.wordCache = wordCache;
+		this.followUpPrefetcher = new FollowUpPrefetcher(this.dictionaryProvider);
+		this.sessionExamples = new SessionExamples(dictionarySnapshot);
+		this.dictionarySnapshot = dictionarySnapshot;
+		this.fuzzyWordIndex = fuzzyWordIndex;
+		this.speech = LocaleSpeech.forLocale(locale);
+	}
+
+	private SkillLocale(Locale locale, SkillLocale sameLanguage) {
+		this.locale = locale;
+		this.language = sameLanguage.language;
+		this.keyPrefix = sameLanguage.keyPrefix;
+		this.dictionaryProvider = sameLanguage.dictionaryProvider;
+		this.wordCache = sameLanguage.wordCache;
+		this.followUpPrefetcher = sameLanguage.followUpPrefetcher;
+		this.sessionExamples = sameLanguage.sessionExamples;
+		this.dictionarySnapshot = sameLanguage.dictionarySnapshot;
+		this.fuzzyWordIndex = sameLanguage.fuzzyWordIndex;
+		this.speech = LocaleSpeech.forLocale(locale);
+	}
+
+	/**
+	 * @param locale another locale of the same language
+	 * @return the locale, sharing the dictionary, the cache, the staged senses, the snapshot and the fuzzy index
+	 * 				of this one
+	 */
+	public SkillLocale forLocale(Locale locale) {
+		return new SkillLocale(locale, this);
+	}
+
+	/**
+	 * Creates the locales of the setting OXFORD_LOCALES, each language with a
+	 * {@link WordCache#forLanguage(String, int)} shared by its locales.
+	 * @param dictionaryProvider the source of the words missing from every cache tier, in every language
+	 * @param dictionarySnapshot the precomputed words of the default language, or null
+	 * @param fuzzyWordIndex the index correcting the misrecognized words of the default language, or null
+	 * @return the locales, the default one first
+	 */
+	public static List<SkillLocale> fromConfig(DictionaryProvider dictionaryProvider, DictionarySnapshot dictionarySnapshot,
+			FuzzyWordIndex fuzzyWordIndex) {
+		String[] pairs = Config.getString("OXFORD_LOCALES", "en-GB=en,en-US=en").split(",");
+		Map<String, String> languages = new HashMap<>();
+		Set<String> distinctLanguages = new LinkedHashSet<>();
+		for (String pair : pairs) {
+			int separator = pair.indexOf('=');
+			if (separator <= 0 || separator == pair.length() - 1) {
+				throw new IllegalStateException("Invalid OXFORD_LOCALES entry \"" + pair + "\", expected tag=language");
+			}
+			String language = pair.substring(separator + 1).trim();
+			languages.put(pair, language);
+			distinctLanguages.add(language);
+		}
+
+		List<SkillLocale> locales = new ArrayList<>(pairs.length);
+		Map<String, SkillLocale> byLanguage = new HashMap<>();
+		for (String pair : pairs) {
+			Locale locale = Locale.forLanguageTag(pair.substring(0, pair.indexOf('=')).trim());
+			String language = languages.get(pair);
+			SkillLocale sameLanguage = byLanguage.get(language);
+			if (sameLanguage != null) {
+				locales.add(sameLanguage.forLocale(locale));
+				continue;
+			}
+			boolean defaultLanguage = locales.isEmpty();
+			SkillLocale skillLocale = new SkillLocale(locale, language, defaultLanguage, dictionaryProvider,
+					WordCache.forLanguage(language, distinctLanguages.size()),
+					defaultLanguage ? dictionarySnapshot : null,
+					defaultLanguage ? fuzzyWordIndex : null);
+			byLanguage.put(language, skillLocale);
+			locales.add(skillLocale);
+		}
+		return Collections.unmodifiableList(locales);
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @return the key of the word in the structures shared by every locale
+	 */
+	public String qualify(String key) {
+		return keyPrefix.isEmpty() ? key : keyPrefix + key;
+	}
+
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * @return true for the locales of the language of the default locale, whose words are not qualified
+	 */
+	public boolean isDefaultLanguage() {
+		return keyPrefix.isEmpty();
+	}
+
+	/**
+	 * @return the code of the dictionary of the Oxford service the words are looked up in
+	 */
+	public String getLanguage() {
+		return language;
+	}
+
+	/**
+	 * @return the source of the words missing from every cache tier, in the language of the locale
+	 */
+	public DictionaryProvider getDictionaryProvider() {
+		return dictionaryProvider;
+	}
+
+	public WordCache getWordCache() {
+		return wordCache;
+	}
+
+	public FollowUpPrefetcher getFollowUpPrefetcher() {
+		return followUpPrefetcher;
+	}
+
+	public SessionExamples getSessionExamples() {
+		return sessionExamples;
+	}
+
+	/**
+	 * @return the precomputed words served without any call, or null
+	 */
+	public DictionarySnapshot getDictionarySnapshot() {
+		return dictionarySnapshot;
+	}
+
+	/**
+	 * @return the index correcting misrecognized words, or null
+	 */
+	public FuzzyWordIndex getFuzzyWordIndex() {
+		return fuzzyWordIndex;
+	}
+
+	public LocaleSpeech getSpeech() {
+		return speech;
+	}
+
+	@Override
+	public String toString() {
+		return "SkillLocale [locale=" + locale.toLanguageTag() + ", language=" + language + ", wordCache="
+				+ wordCache.getStats() + ", followUpPrefetcher=" + followUpPrefetcher + "]";
+	}
+
+}
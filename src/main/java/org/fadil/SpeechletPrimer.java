@@ -0,0 +1,81 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazon.speech.speechlet.SpeechletException;
+import com.amazon.speech.speechlet.SpeechletRequestHandlerException;
+import com.amazon.speech.speechlet.lambda.LambdaSpeechletRequestHandler;
+
+/**
+ * This class warms up a freshly created {@link OxfordSpeechlet} while the Lambda container is being initialized,
+ * so that the cost of class loading, JIT compilation and TLS handshake is not paid by the first user request.
+ *
+ * A launch request bundled in the jar goes through the whole request handling path (request deserialization,
+ * application id verification, speech building and response serialization), a recorded Oxford response is
+ * parsed, and a connection to the Oxford service is opened and left in the pool. The words most asked for
+ * according to the {@link WordAnalytics} are then looked up, so that they are already cached.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+final class SpeechletPrimer {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SpeechletPrimer.class);
+	private static final String PRIMING_APPLICATION_ID = "APP_ID";
+
+	private SpeechletPrimer() {
+	}
+
+	/**
+	 * Primes the speechlet. Failures are logged and never prevent the container from starting.
+	 * @param speechlet
+	 */
+	static void prime(OxfordSpeechlet speechlet) {
+		long start = System.nanoTime();
+		try {
+			LambdaSpeechletRequestHandler handler = new LambdaSpeechletRequestHandler(
+					Collections.singleton(PRIMING_APPLICATION_ID));
+			try (InputStream request = resource("/priming/launch-request.json")) {
+				handler.handleSpeechletCall(speechlet, IOUtils.toByteArray(request));
+			}
+			try (InputStream response = resource("/priming/oxford-response.json")) {
+				OxfordResponseParser.parse(response);
+			}
+		} catch (IOException | SpeechletException | SpeechletRequestHandlerException | RuntimeException e) {
+			LOG.warn("Could not prime the request path", e);
+		}
+
+		if (Config.getBoolean("OXFORD_PRIME_CONNECTION", true)) {
+			speechlet.getDictionaryProvider().prime();
+		}
+		int prewarmWords = Config.getInt("OXFORD_PREWARM_WORDS", 100);
+		if (prewarmWords > 0) {
+			List<String> words = speechlet.getWordAnalytics().topWords(prewarmWords);
+			if (!words.isEmpty()) {
+				int warmed = speechlet.prewarm(words, Config.getLong("OXFORD_PREWARM_MILLIS", 1500));
+				LOG.info("Prewarmed {} of {} words", warmed, words.size());
+			}
+		}
+		Metrics.get().resetInterval();
+		LOG.info("Primed in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	private static InputStream resource(String name) throws IOException {
+		InputStream in = SpeechletPrimer.class.getResourceAsStream(name);
+		if (in == null) {
+			throw new IOException("Missing priming resource " + name);
+		}
+		return in;
+	}
+
+}
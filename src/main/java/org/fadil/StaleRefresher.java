@@ -0,0 +1,97 @@
+package org.fadil;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class reloads in the background the words served stale from the {@link WordCache}, so that the request
+ * is answered at once and the next one finds the word fresh again. It also loads the words a request had no
+ * time left to look up, as set by its {@link RequestDeadline}.
+ *
+ * A word is reloaded once at a time however many requests serve it stale. The reloads run on a
+ * {@link KeyedExecutor}, a small pool of daemon threads with a bounded queue: when the budget is exhausted the
+ * reload is dropped, and the word is reloaded by a later request.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class StaleRefresher {
+
+	private static final Logger LOG = LoggerFactory.getLogger(StaleRefresher.class);
+
+	private final KeyedExecutor executor;
+	private final AtomicLong refreshedCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+
+	/**
+	 * Creates a refresher using the settings OXFORD_REFRESH_THREADS and OXFORD_REFRESH_QUEUE.
+	 */
+	public StaleRefresher() {
+		this(Config.getInt("OXFORD_REFRESH_THREADS", 2),
+				Config.getInt("OXFORD_REFRESH_QUEUE", 32));
+	}
+
+	/**
+	 * @param threads the number of background threads
+	 * @param queueCapacity the number of reloads waiting for a thread, beyond which they are dropped
+	 */
+	public StaleRefresher(int threads, int queueCapacity) {
+		this.executor = new KeyedExecutor("stale-refresher", threads, queueCapacity);
+	}
+
+	/**
+	 * Reloads a word in the background, unless it is already being reloaded.
+	 * @param key the normalized word
+	 * @param loader the lookup storing the fresh details of the word in the caches
+	 */
+	public void refresh(String key, RequestCoalescer.Loader loader) {
+		executor.execute(key, () -> {
+			try {
+				loader.load();
+				refreshedCount.incrementAndGet();
+			} catch (OxfordServiceException e) {
+				failedCount.incrementAndGet();
+				LOG.debug("refreshFailed word={} failure={}", key, e.getFailure());
+			}
+		});
+	}
+
+	/**
+	 * @return the number of words reloaded
+	 */
+	public long getRefreshedCount() {
+		return refreshedCount.get();
+	}
+
+	/**
+	 * @return the number of reloads which failed, the word staying stale
+	 */
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	/**
+	 * @return the number of reloads dropped because the queue was full
+	 */
+	public long getDroppedCount() {
+		return executor.getDroppedCount();
+	}
+
+	/**
+	 * Stops the background threads. The reloads still queued are dropped.
+	 */
+	public void close() {
+		executor.close();
+	}
+
+	@Override
+	public String toString() {
+		return "StaleRefresher [refreshedCount=" + refreshedCount + ", failedCount=" + failedCount
+				+ ", droppedCount=" + executor.getDroppedCount() + ", pendingCount=" + executor.getPendingCount() + "]";
+	}
+
+}
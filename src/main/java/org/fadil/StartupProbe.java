@@ -0,0 +1,41 @@
+package org.fadil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates the start of a Lambda container: the handler is created (which runs the static initialization
+ * of the skill) and a first launch request is handled. The durations are printed, so that the start up of
+ * the plain jar can be compared with a start up using a class data sharing archive.
+ *
+ * The build runs this class to record the list of classes loaded at start up (see the "lambda" profile).
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public final class StartupProbe {
+
+	private StartupProbe() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		long start = System.nanoTime();
+		OxfordSpeechletRequestStreamHandler handler = new OxfordSpeechletRequestStreamHandler();
+		long initialized = System.nanoTime();
+
+		try (InputStream request = StartupProbe.class.getResourceAsStream("/priming/launch-request.json")) {
+			handler.handleRequest(request, new ByteArrayOutputStream(1024), null);
+		}
+		long handled = System.nanoTime();
+
+		System.out.println("jvmUptime=" + ManagementFactory.getRuntimeMXBean().getUptime() + " ms"
+				+ ", init=" + TimeUnit.NANOSECONDS.toMillis(initialized - start) + " ms"
+				+ ", firstRequest=" + TimeUnit.NANOSECONDS.toMillis(handled - initialized) + " ms");
+	}
+
+}
@@ -0,0 +1,150 @@
+package org.fadil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * This class is a local HTTP server answering like the Oxford entries endpoint with recorded responses, so that
+ * an {@link OxfordClient} pointed to it exercises the whole HTTP path without using the Oxford quota. Words
+ * without a recorded response are answered with 404. Every answer is delayed by a latency plus a random jitter,
+ * and a share of the answers can be 503, to load test the timeouts, the retries and the {@link CircuitBreaker}.
+ * The answer is scheduled after the delay rather than slept for, so no thread is held meanwhile and the number
+ * of requests in flight is not bounded by the threads of the server.
+ *
+ * Run standalone, the server is configured with the settings OXFORD_STUB_FIXTURES_DIR, OXFORD_STUB_PORT,
+ * OXFORD_STUB_LATENCY_MILLIS, OXFORD_STUB_JITTER_MILLIS, OXFORD_STUB_FAILURE_PERCENT and OXFORD_STUB_THREADS,
+ * and the skill is pointed to it with OXFORD_ENDPOINT.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class StubOxfordServer implements Closeable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(StubOxfordServer.class);
+	private static final String PATH = "/api/v1/entries/";
+	private static final byte[] NOT_FOUND = "{\"error\":\"No entry available\"}".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] UNAVAILABLE = "{\"error\":\"Service unavailable\"}".getBytes(StandardCharsets.UTF_8);
+
+	static {
+		// without TCP_NODELAY small answers wait for the delayed ACK of the client
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	private final HttpServer server;
+	private final ScheduledExecutorService executor;
+	private final Map<String, byte[]> responses;
+	private final long latencyMillis;
+	private final long jitterMillis;
+	private final int failurePercent;
+
+	/**
+	 * Starts a server on an ephemeral port answering after a fixed latency.
+	 * @param responses the recorded response bodies by normalized word
+	 * @param latencyMillis how long every answer takes
+	 * @throws IOException if the server cannot be started
+	 */
+	public StubOxfordServer(Map<String, byte[]> responses, long latencyMillis) throws IOException {
+		this(responses, 0, latencyMillis, 0, 0, 4);
+	}
+
+	/**
+	 * @param responses the recorded response bodies by normalized word
+	 * @param port the port to listen on, 0 for an ephemeral port
+	 * @param latencyMillis the minimum time every answer takes
+	 * @param jitterMillis the maximum time added at random to the latency
+	 * @param failurePercent the share of the answers which are 503, between 0 and 100
+	 * @param threads the number of threads reading the requests and writing the answers
+	 * @throws IOException if the server cannot be started
+	 */
+	public StubOxfordServer(Map<String, byte[]> responses, int port, long latencyMillis, long jitterMillis,
+			int failurePercent, int threads) throws IOException {
+		this.responses = responses;
+		this.latencyMillis = latencyMillis;
+		this.jitterMillis = jitterMillis;
+		this.failurePercent = failurePercent;
+		this.executor = Executors.newScheduledThreadPool(threads);
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 128);
+		this.server.createContext(PATH, this::handle);
+		this.server.setExecutor(executor);
+		this.server.start();
+	}
+
+	/**
+	 * @return the endpoint to give to the OxfordClient
+	 */
+	public String getEndpoint() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + PATH + "{language}/";
+	}
+
+	private void handle(HttpExchange exchange) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long delayMillis = latencyMillis + (jitterMillis > 0 ? random.nextLong(jitterMillis + 1) : 0);
+		// the exchange stays open once the handler returns, until the answer is written
+		executor.schedule(() -> answer(exchange), delayMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void answer(HttpExchange exchange) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int status;
+		byte[] body;
+		if (failurePercent > 0 && random.nextInt(100) < failurePercent) {
+			status = 503;
+			body = UNAVAILABLE;
+		} else {
+			// the same responses are served in every language
+			String path = exchange.getRequestURI().getPath().substring(PATH.length());
+			body = responses.get(path.substring(path.indexOf('/') + 1));
+			status = body != null ? 200 : 404;
+			if (body == null) {
+				body = NOT_FOUND;
+			}
+		}
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		try (OutputStream out = exchange.getResponseBody()) {
+			exchange.sendResponseHeaders(status, body.length);
+			out.write(body);
+		} catch (IOException e) {
+			LOG.debug("Could not answer {}", exchange.getRequestURI(), e);
+			exchange.close();
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	public static void main(String[] args) throws IOException {
+		String directory = Config.getString("OXFORD_STUB_FIXTURES_DIR", null);
+		if (directory == null) {
+			System.err.println("OXFORD_STUB_FIXTURES_DIR is required: a directory of recorded \"word.json\" responses");
+			System.exit(2);
+		}
+		StubOxfordServer server = new StubOxfordServer(FixtureDictionaryProvider.load(Paths.get(directory)),
+				Config.getInt("OXFORD_STUB_PORT", 8089),
+				Config.getLong("OXFORD_STUB_LATENCY_MILLIS", 100),
+				Config.getLong("OXFORD_STUB_JITTER_MILLIS", 0),
+				Config.getInt("OXFORD_STUB_FAILURE_PERCENT", 0),
+				Config.getInt("OXFORD_STUB_THREADS", 4));
+		LOG.info("Stub Oxford server answering {} words on {}", server.responses.size(), server.getEndpoint());
+	}
+
+}
@@ -0,0 +1,162 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class counts the words asked for by the users in a {@link WordFrequencySketch}, in a fixed amount of
+ * memory and for a fraction of a microsecond per request, and periodically adds the words most counted to the
+ * {@link WordFrequencyStore}. The stored counts of the whole fleet tell which words to warm the cache of a new
+ * container with, and which words to put in the next {@link DictionarySnapshot}.
+ *
+ * As with {@link Metrics}, there is no timer thread: the flush is triggered by the requests themselves through
+ * {@link #flushIfDue()}, and the counts are written by a single daemon thread so that no request waits for the
+ * store. A flush is dropped, and its counts lost, if the previous one is still being written. Without a store,
+ * the words most counted are only logged.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class WordAnalytics {
+
+	private static final Logger LOG = LoggerFactory.getLogger(WordAnalytics.class);
+
+	private final WordFrequencySketch sketch;
+	private final WordFrequencyStore store;
+	private final int flushWords;
+	private final long flushIntervalNanos;
+	private final AtomicLong nextFlushAt;
+	private final ExecutorService writer;
+	private final AtomicLong flushedCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	/**
+	 * Creates the analytics using the store of {@link WordFrequencyStore#fromConfig()} and the settings
+	 * OXFORD_ANALYTICS_DEPTH, OXFORD_ANALYTICS_WIDTH, OXFORD_ANALYTICS_CAPACITY, OXFORD_ANALYTICS_FLUSH_WORDS
+	 * and OXFORD_ANALYTICS_FLUSH_SECONDS.
+	 */
+	public WordAnalytics() {
+		this(new WordFrequencySketch(Config.getInt("OXFORD_ANALYTICS_DEPTH", 4),
+				Config.getInt("OXFORD_ANALYTICS_WIDTH", 4096),
+				Config.getInt("OXFORD_ANALYTICS_CAPACITY", 256)),
+				WordFrequencyStore.fromConfig(),
+				Config.getInt("OXFORD_ANALYTICS_FLUSH_WORDS", 100),
+				Config.getLong("OXFORD_ANALYTICS_FLUSH_SECONDS", TimeUnit.MINUTES.toSeconds(5)));
+	}
+
+	/**
+	 * @param sketch the counts of the words asked for since the last flush
+	 * @param store where the counts are added, or null to only log them
+	 * @param flushWords the number of words most counted added to the store by a flush
+	 * @param flushSeconds how often the counts are flushed
+	 */
+	public WordAnalytics(WordFrequencySketch sketch, WordFrequencyStore store, int flushWords, long flushSeconds) {
+		this.sketch = sketch;
+		this.store = store;
+		this.flushWords = flushWords;
+		this.flushIntervalNanos = TimeUnit.SECONDS.toNanos(flushSeconds);
+		this.nextFlushAt = new AtomicLong(System.nanoTime() + flushIntervalNanos);
+		this.writer = DaemonExecutors.bounded("word-analytics-writer", 1, 1);
+	}
+
+	/**
+	 * Counts one request for a word.
+	 * @param key the normalized word
+	 */
+	public void record(String key) {
+		if (key != null && !key.isEmpty()) {
+			sketch.add(key);
+		}
+	}
+
+	/**
+	 * Flushes the counts if the flush interval has elapsed. Only one of the concurrent callers flushes.
+	 */
+	public void flushIfDue() {
+		long next = nextFlushAt.get();
+		if (System.nanoTime() - next >= 0 && nextFlushAt.compareAndSet(next, System.nanoTime() + flushIntervalNanos)) {
+			flush();
+		}
+	}
+
+	/**
+	 * Adds the words most counted since the last flush to the store in the background, and starts counting again.
+	 */
+	public void flush() {
+		List<WordFrequencySketch.WordCount> counts = sketch.drain(flushWords);
+		if (counts.isEmpty()) {
+			return;
+		}
+		if (store == null) {
+			LOG.info("topWords {}", counts);
+			return;
+		}
+		try {
+			writer.execute(() -> {
+				try {
+					store.add(counts);
+					flushedCount.incrementAndGet();
+				} catch (IOException e) {
+					failedCount.incrementAndGet();
+					LOG.warn("Could not flush {} word counts to {}", counts.size(), store, e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			droppedCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * @param limit the number of words returned
+	 * @return the words most asked for by the whole fleet according to the store, or by this container since the
+	 * 				last flush without a store. Empty if the store could not be read.
+	 */
+	public List<String> topWords(int limit) {
+		if (store == null) {
+			List<String> words = new ArrayList<>(limit);
+			for (WordFrequencySketch.WordCount count : sketch.top(limit)) {
+				words.add(count.getWord());
+			}
+			return words;
+		}
+		try {
+			return store.top(limit);
+		} catch (IOException e) {
+			LOG.warn("Could not read the top words from {}", store, e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * @return the counts of the words asked for since the last flush
+	 */
+	public WordFrequencySketch getSketch() {
+		return sketch;
+	}
+
+	/**
+	 * Stops the thread writing the counts. The counts not yet flushed are lost.
+	 */
+	public void close() {
+		writer.shutdownNow();
+	}
+
+	@Override
+	public String toString() {
+		return "WordAnalytics [total=" + sketch.getTotal() + ", store=" + store + ", flushedCount=" + flushedCount
+				+ ", failedCount=" + failedCount + ", droppedCount=" + droppedCount + "]";
+	}
+
+}
@@ -0,0 +1,317 @@
+package org.fadil;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is an in-process cache of {@link WordDetails} placed in front of the calls to the
+ * Oxford service. It lives as long as the Lambda container, so a warm container can answer
+ * repeated lookups of the same word without any network round trip.
+ *
+ * The cache is bounded both in number of entries and in estimated heap size, and evicts the
+ * least recently used entries first. Every entry expires after a time to live. Words which the
+ * Oxford service does not know are cached as well (negative caching) with their own, usually
+ * shorter, time to live.
+ *
+ * An expired entry is not returned by {@link #get(String)} but is kept for a stale window, during which
+ * {@link #getStale(String)} still returns it: a stale answer can be served at once while the word is
+ * reloaded, or while the Oxford service is unavailable.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class WordCache {
+
+	private final int maxEntries;
+	private final long maxWeight;
+	private final long ttlNanos;
+	private final long negativeTtlNanos;
+	private final long staleNanos;
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+	private long weight;
+	private long hitCount;
+	private long negativeHitCount;
+	private long missCount;
+	private long evictionCount;
+	private long expirationCount;
+	private long staleHitCount;
+
+	/**
+	 * Creates a cache using the settings OXFORD_CACHE_MAX_ENTRIES, OXFORD_CACHE_MAX_BYTES,
+	 * OXFORD_CACHE_TTL_SECONDS, OXFORD_CACHE_NEGATIVE_TTL_SECONDS and OXFORD_CACHE_STALE_SECONDS.
+	 */
+	public WordCache() {
+		this(Config.getInt("OXFORD_CACHE_MAX_ENTRIES", 5000),
+				Config.getLong("OXFORD_CACHE_MAX_BYTES", 16L * 1024 * 1024),
+				Config.getLong("OXFORD_CACHE_TTL_SECONDS", TimeUnit.HOURS.toSeconds(24)),
+				Config.getLong("OXFORD_CACHE_NEGATIVE_TTL_SECONDS", TimeUnit.MINUTES.toSeconds(30)),
+				Config.getLong("OXFORD_CACHE_STALE_SECONDS", TimeUnit.DAYS.toSeconds(7)));
+	}
+
+	/**
+	 * Creates the cache of one of the dictionaries the skill looks words up in, shared by the locales of its
+	 * language, so that a heavy language only evicts its own words. Its budget is set by
+	 * OXFORD_CACHE_MAX_ENTRIES_{LANGUAGE} and OXFORD_CACHE_MAX_BYTES_{LANGUAGE}, such as OXFORD_CACHE_MAX_BYTES_ES,
+	 * and is an even share of OXFORD_CACHE_MAX_ENTRIES and OXFORD_CACHE_MAX_BYTES by default, the languages
+	 * together taking the memory of a single cache. The times to live are the same for every language.
+	 * @param language the code of the dictionary of the Oxford service, such as "en" or "es"
+	 * @param languageCount the number of languages sharing the budget by default
+	 * @return the cache
+	 */
+	public static WordCache forLanguage(String language, int languageCount) {
+		String suffix = "_" + language.toUpperCase(Locale.ROOT).replace('-', '_');
+		return new WordCache(
+				Config.getInt("OXFORD_CACHE_MAX_ENTRIES" + suffix, Config.getInt("OXFORD_CACHE_MAX_ENTRIES", 5000) / languageCount),
+				Config.getLong("OXFORD_CACHE_MAX_BYTES" + suffix, Config.getLong("OXFORD_CACHE_MAX_BYTES", 16L * 1024 * 1024) / languageCount),
+				Config.getLong("OXFORD_CACHE_TTL_SECONDS", TimeUnit.HOURS.toSeconds(24)),
+				Config.getLong("OXFORD_CACHE_NEGATIVE_TTL_SECONDS", TimeUnit.MINUTES.toSeconds(30)),
+				Config.getLong("OXFORD_CACHE_STALE_SECONDS", TimeUnit.DAYS.toSeconds(7)));
+	}
+
+	public WordCache(int maxEntries, long maxBytes, long ttlSeconds, long negativeTtlSeconds) {
+		this(maxEntries, maxBytes, ttlSeconds, negativeTtlSeconds, 0);
+	}
+
+	/**
+	 * @param maxEntries the number of entries kept
+	 * @param maxBytes the estimated heap size of the entries kept
+	 * @param ttlSeconds how long a word is fresh
+	 * @param negativeTtlSeconds how long a word unknown to the Oxford service is fresh
+	 * @param staleSeconds how long an expired entry can still be served stale, 0 to drop it once expired
+	 */
+	public WordCache(int maxEntries, long maxBytes, long ttlSeconds, long negativeTtlSeconds, long staleSeconds) {
+		this.maxEntries = maxEntries;
+		this.maxWeight = maxBytes;
+		this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+		this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+		this.staleNanos = TimeUnit.SECONDS.toNanos(staleSeconds);
+	}
+
+	/**
+	 * Normalizes a word the same way for every lookup, so that "Apple", " apple" and "apple"
+	 * share the same cache entry.
+	 * @param word
+	 * @return the normalized word, or null if the word is null
+	 */
+	public static String normalize(String word) {
+		if (word == null) {
+			return null;
+		}
+		return word.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @return the cached {@link WordDetails} (possibly {@link WordDetails#notFound()}),
+	 * 				or null if the word is not cached or has expired
+	 */
+	public synchronized WordDetails get(String key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			missCount++;
+			return null;
+		}
+		long now = System.nanoTime();
+		if (entry.expiresAt - now <= 0) {
+			if (entry.expiresAt + staleNanos - now <= 0) {
+				remove(key, entry);
+				expirationCount++;
+			}
+			missCount++;
+			return null;
+		}
+		if (entry.details.isFound()) {
+			hitCount++;
+		} else {
+			negativeHitCount++;
+		}
+		return entry.details;
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @return the expired {@link WordDetails} of the word within its stale window, or null if the word is
+	 * 				not cached, still fresh, or expired for longer than the stale window
+	 */
+	public synchronized WordDetails getStale(String key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		long now = System.nanoTime();
+		if (entry.expiresAt - now > 0) {
+			return null;
+		}
+		if (entry.expiresAt + staleNanos - now <= 0) {
+			remove(key, entry);
+			expirationCount++;
+			return null;
+		}
+		staleHitCount++;
+		return entry.details;
+	}
+
+	/**
+	 * Stores the details of a word. {@link WordDetails#notFound()} is stored with the negative time to live.
+	 * @param key the normalized word
+	 * @param details
+	 */
+	public synchronized void put(String key, WordDetails details) {
+		if (key == null || details == null || maxEntries <= 0) {
+			return;
+		}
+		long ttl = details.isFound() ? ttlNanos : negativeTtlNanos;
+		if (ttl <= 0) {
+			return;
+		}
+		Entry entry = new Entry(details, System.nanoTime() + ttl, 32 + 2 * key.length() + details.estimateSize());
+		if (entry.weight > maxWeight) {
+			return;
+		}
+		Entry previous = entries.put(key, entry);
+		if (previous != null) {
+			weight -= previous.weight;
+		}
+		weight += entry.weight;
+		evictIfNeeded();
+	}
+
+	/**
+	 * @param key the normalized word
+	 * @return true if the word has an entry, fresh or expired, without counting a hit or a miss
+	 */
+	public synchronized boolean contains(String key) {
+		return entries.containsKey(key);
+	}
+
+	public synchronized void invalidate(String key) {
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			remove(key, entry);
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return a consistent snapshot of the counters of this cache
+	 */
+	public synchronized Stats getStats() {
+		return new Stats(hitCount, negativeHitCount, missCount, staleHitCount, evictionCount, expirationCount,
+				entries.size(), weight);
+	}
+
+	private void evictIfNeeded() {
+		Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+		while ((entries.size() > maxEntries || weight > maxWeight) && iterator.hasNext()) {
+			Entry eldest = iterator.next().getValue();
+			iterator.remove();
+			weight -= eldest.weight;
+			evictionCount++;
+		}
+	}
+
+	private void remove(String key, Entry entry) {
+		entries.remove(key);
+		weight -= entry.weight;
+	}
+
+	private static final class Entry {
+
+		private final WordDetails details;
+		private final long expiresAt;
+		private final int weight;
+
+		private Entry(WordDetails details, long expiresAt, int weight) {
+			this.details = details;
+			this.expiresAt = expiresAt;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * Immutable snapshot of the counters of a {@link WordCache}.
+	 */
+	public static final class Stats {
+
+		private final long hitCount;
+		private final long negativeHitCount;
+		private final long missCount;
+		private final long staleHitCount;
+		private final long evictionCount;
+		private final long expirationCount;
+		private final int size;
+		private final long weight;
+
+		private Stats(long hitCount, long negativeHitCount, long missCount, long staleHitCount, long evictionCount,
+				long expirationCount, int size, long weight) {
+			this.hitCount = hitCount;
+			this.negativeHitCount = negativeHitCount;
+			this.missCount = missCount;
+			this.staleHitCount = staleHitCount;
+			this.evictionCount = evictionCount;
+			this.expirationCount = expirationCount;
+			this.size = size;
+			this.weight = weight;
+		}
+
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		public long getNegativeHitCount() {
+			return negativeHitCount;
+		}
+
+		public long getMissCount() {
+			return missCount;
+		}
+
+		/**
+		 * @return the number of misses answered with an expired entry, counted among the misses
+		 */
+		public long getStaleHitCount() {
+			return staleHitCount;
+		}
+
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		public long getExpirationCount() {
+			return expirationCount;
+		}
+
+		public int getSize() {
+			return size;
+		}
+
+		public long getWeight() {
+			return weight;
+		}
+
+		/**
+		 * @return the ratio of lookups answered from the cache, between 0 and 1
+		 */
+		public double getHitRate() {
+			long total = hitCount + negativeHitCount + missCount;
+			return total == 0 ? 0 : (double) (hitCount + negativeHitCount) / total;
+		}
+
+		@Override
+		public String toString() {
+			return "Stats [hitCount=" + hitCount + ", negativeHitCount=" + negativeHitCount + ", missCount=" + missCount
+					+ ", staleHitCount=" + staleHitCount + ", evictionCount=" + evictionCount + ", expirationCount=" + expirationCount + ", size=" + size
+					+ ", weight=" + weight + "]";
+		}
+	}
+
+}
@@ -1,14 +1,13 @@
 package org.fadil;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-import com.amazonaws.util.json.JSONObject;
-
 /**
  * This is a container class to hold the extracted information from
- * the {@link JSONObject} response obtained from calling the Oxford web service.
+ * the JSON response obtained from calling the Oxford web service.
  * 
  * @author Fadil
  * @version 1.0
@@ -16,14 +15,36 @@ import com.amazonaws.util.json.JSONObject;
  */
 public class WordDetails {
 	
+	private static final WordDetails NOT_FOUND = new WordDetails(Optional.empty(), Optional.empty(), Collections.emptyList(), false);
+	
 	private Optional<String> lexicalCategory;
 	private Optional<String> definition;
 	private List<String> examples;
+	private final boolean found;
 	
 	public WordDetails(Optional<String> lexicalCategory, Optional<String> definition, List<String> examples) {
+		this(lexicalCategory, definition, examples, true);
+	}
+	
+	private WordDetails(Optional<String> lexicalCategory, Optional<String> definition, List<String> examples, boolean found) {
 		this.lexicalCategory = lexicalCategory;
 		this.definition = definition;
 		this.examples = examples;
+		this.found = found;
+	}
+	
+	/**
+	 * @return the shared instance used when the Oxford service does not know the word
+	 */
+	public static WordDetails notFound() {
+		return NOT_FOUND;
+	}
+	
+	/**
+	 * @return false if the Oxford service answered that the word does not exist
+	 */
+	public boolean isFound() {
+		return found;
 	}
 
 	public Optional<String> getLexicalCategory() {
@@ -41,6 +62,24 @@ public class WordDetails {
 		return examples;
 	}
 
+	/**
+	 * Rough estimation of the heap used by this object, used to bound the size of the caches.
+	 * @return the estimated size in bytes
+	 */
+	public int estimateSize() {
+		int size = 64 + sizeOf(lexicalCategory) + sizeOf(definition);
+		if (examples != null) {
+			for (String example : examples) {
+				size += 48 + 2 * example.length();
+			}
+		}
+		return size;
+	}
+	
+	private static int sizeOf(Optional<String> value) {
+		return value != null && value.isPresent() ? 56 + 2 * value.get().length() : 16;
+	}
+
 	@Override
 	public String toString() {
 		return "WordDetails [lexicalCategory=" + lexicalCategory + ", definition=" + definition + ", examples="
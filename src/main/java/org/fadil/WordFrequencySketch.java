@@ -0,0 +1,211 @@
+package org.fadil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class counts the words asked for in a fixed amount of memory, however many distinct words are seen:
+ * a Count-Min Sketch estimates the frequency of any word, and a Space-Saving summary keeps the words most
+ * asked for. Both only ever overestimate a count, so the count of a top word is the lowest of their two
+ * estimates.
+ *
+ * The Count-Min Sketch is a table of "depth" rows of "width" counters; a word increments one counter per
+ * row, chosen by a hash of its own, and its estimate is the lowest of them. The Space-Saving summary monitors
+ * "capacity" words: a word which is not monitored replaces the least counted one and inherits its count, which
+ * is kept as the error of the new word. Every word counted more than total / capacity times is monitored.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public class WordFrequencySketch {
+
+	private final int depth;
+	private final int mask;
+	private final int[] counters;
+	private final String[] words;
+	private final long[] counts;
+	private final long[] errors;
+	private final Map<String, Integer> slots;
+	private int size;
+	private long total;
+
+	/**
+	 * @param depth the number of rows of the Count-Min Sketch
+	 * @param width the number of counters of a row, rounded up to a power of two
+	 * @param capacity the number of words monitored by the Space-Saving summary
+	 */
+	public WordFrequencySketch(int depth, int width, int capacity) {
+		int roundedWidth = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+		this.depth = depth;
+		this.mask = roundedWidth - 1;
+		this.counters = new int[depth * roundedWidth];
+		this.words = new String[capacity];
+		this.counts = new long[capacity];
+		this.errors = new long[capacity];
+		// sized so that it never resizes
+		this.slots = new HashMap<>(capacity * 2);
+	}
+
+	/**
+	 * Counts one occurrence of a word.
+	 * @param word the normalized word
+	 */
+	public synchronized void add(String word) {
+		total++;
+		int hash = spread(word.hashCode());
+		int step = (hash >>> 16) | 1;
+		int row = 0;
+		for (int i = 0; i < depth; i++, row += mask + 1) {
+			int index = row + ((hash + i * step) & mask);
+			if (counters[index] != Integer.MAX_VALUE) {
+				counters[index]++;
+			}
+		}
+
+		Integer slot = slots.get(word);
+		if (slot != null) {
+			counts[slot]++;
+		} else if (size < words.length) {
+			words[size] = word;
+			counts[size] = 1;
+			errors[size] = 0;
+			slots.put(word, size++);
+		} else if (words.length > 0) {
+			int min = 0;
+			for (int i = 1; i < size; i++) {
+				if (counts[i] < counts[min]) {
+					min = i;
+				}
+			}
+			slots.remove(words[min]);
+			words[min] = word;
+			errors[min] = counts[min];
+			counts[min]++;
+			slots.put(word, min);
+		}
+	}
+
+	/**
+	 * @param word the normalized word
+	 * @return the estimated number of occurrences of the word, never lower than the actual one
+	 */
+	public synchronized long estimate(String word) {
+		int hash = spread(word.hashCode());
+		int step = (hash >>> 16) | 1;
+		int row = 0;
+		long estimate = Long.MAX_VALUE;
+		for (int i = 0; i < depth; i++, row += mask + 1) {
+			estimate = Math.min(estimate, counters[row + ((hash + i * step) & mask)]);
+		}
+		return estimate;
+	}
+
+	/**
+	 * @param limit the number of words returned
+	 * @return the words most counted, the most counted first
+	 */
+	public synchronized List<WordCount> top(int limit) {
+		List<WordCount> top = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			top.add(new WordCount(words[i], Math.min(counts[i], estimate(words[i])), errors[i]));
+		}
+		top.sort(null);
+		return Collections.unmodifiableList(top.size() > limit ? new ArrayList<>(top.subList(0, limit)) : top);
+	}
+
+	/**
+	 * Returns the words most counted and forgets every occurrence counted, at once, so that no occurrence
+	 * counted in between is lost.
+	 * @param limit the number of words returned
+	 * @return the words most counted, the most counted first
+	 */
+	public synchronized List<WordCount> drain(int limit) {
+		List<WordCount> top = top(limit);
+		clear();
+		return top;
+	}
+
+	/**
+	 * @return the number of occurrences counted
+	 */
+	public synchronized long getTotal() {
+		return total;
+	}
+
+	/**
+	 * Forgets every occurrence counted, keeping the memory allocated.
+	 */
+	public synchronized void clear() {
+		Arrays.fill(counters, 0);
+		Arrays.fill(words, null);
+		Arrays.fill(counts, 0);
+		Arrays.fill(errors, 0);
+		slots.clear();
+		size = 0;
+		total = 0;
+	}
+
+	/**
+	 * Spreads the bits of String.hashCode, which is cached by the string, so that the low bits used for the
+	 * indexes depend on the whole hash.
+	 */
+	private static int spread(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * A word with its estimated number of occurrences, ordered from the most counted.
+	 */
+	public static final class WordCount implements Comparable<WordCount> {
+
+		private final String word;
+		private final long count;
+		private final long error;
+
+		public WordCount(String word, long count, long error) {
+			this.word = word;
+			this.count = count;
+			this.error = error;
+		}
+
+		public String getWord() {
+			return word;
+		}
+
+		/**
+		 * @return the estimated number of occurrences, never lower than the actual one
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return how much the count may overestimate the number of occurrences
+		 */
+		public long getError() {
+			return error;
+		}
+
+		@Override
+		public int compareTo(WordCount other) {
+			int byCount = Long.compare(other.count, count);
+			return byCount != 0 ? byCount : word.compareTo(other.word);
+		}
+
+		@Override
+		public String toString() {
+			return word + "=" + count;
+		}
+	}
+
+}
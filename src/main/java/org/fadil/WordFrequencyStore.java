@@ -0,0 +1,55 @@
+package org.fadil;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This interface is where the counts of the words asked for are kept across the Lambda containers, so that the
+ * words most asked for by the whole fleet can warm the cache of a new container and be put in the next
+ * {@link DictionarySnapshot}. Every container adds the counts of its own {@link WordFrequencySketch} to the
+ * stored ones.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ *
+ */
+public interface WordFrequencyStore {
+
+	/**
+	 * Adds counts to the stored counts of the words.
+	 * @param counts the counts of the words since the last time they were added
+	 * @throws IOException if the counts could not be stored
+	 */
+	void add(List<WordFrequencySketch.WordCount> counts) throws IOException;
+
+	/**
+	 * @param limit the number of words returned
+	 * @return the words most counted, the most counted first
+	 * @throws IOException if the counts could not be read
+	 */
+	List<String> top(int limit) throws IOException;
+
+	/**
+	 * Creates the store selected by the settings OXFORD_ANALYTICS_FILE, a {@link FileWordFrequencyStore}, or
+	 * OXFORD_ANALYTICS_TABLE, a {@link DynamoWordFrequencyStore}.
+	 * @return the store, or null when none is configured
+	 */
+	static WordFrequencyStore fromConfig() {
+		String file = Config.getString("OXFORD_ANALYTICS_FILE", null);
+		if (file != null) {
+			return new FileWordFrequencyStore(Paths.get(file));
+		}
+		String tableName = Config.getString("OXFORD_ANALYTICS_TABLE", null);
+		if (tableName != null) {
+			DynamoWordFrequencyStore store = new DynamoWordFrequencyStore(DynamoWordStore.dynamoDB(), tableName);
+			if (Config.getBoolean("OXFORD_DYNAMO_CREATE_TABLE", false)) {
+				store.createTableIfNotExists();
+			}
+			return store;
+		}
+		return null;
+	}
+
+}
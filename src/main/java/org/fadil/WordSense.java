@@ -0,0 +1,45 @@
+package org.fadil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * This is a container class for one sense of a word beyond the first one held by {@link WordDetails}:
+ * the lexical category of its lexical entry, its definition and its examples.
+ *
+ * @author Fadil
+ * @version 1.0
+ * @since 17/10/2026
+ */
+public class WordSense {
+
+	private final Optional<String> lexicalCategory;
+	private final Optional<String> definition;
+	private final List<String> examples;
+
+	public WordSense(Optional<String> lexicalCategory, Optional<String> definition, List<String> examples) {
+		this.lexicalCategory = lexicalCategory;
+		this.definition = definition;
+		this.examples = Collections.unmodifiableList(examples);
+	}
+
+	public Optional<String> getLexicalCategory() {
+		return lexicalCategory;
+	}
+
+	public Optional<String> getDefinition() {
+		return definition;
+	}
+
+	public List<String> getExamples() {
+		return examples;
+	}
+
+	@Override
+	public String toString() {
+		return "WordSense [lexicalCategory=" + lexicalCategory + ", definition=" + definition + ", examples="
+				+ examples + "]";
+	}
+
+}